@@ -0,0 +1,114 @@
+package com.wit.be.common.response;
+
+import com.wit.be.auth.dto.response.SocialLoginResponse;
+import com.wit.be.terms.domain.TermsType;
+import com.wit.be.terms.dto.response.TermsResponse;
+import com.wit.be.user.domain.UserStatus;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * 응답 형식별 인코딩 벤치마크.
+ *
+ * <p>json: 기본 응답 형식 <br>
+ * cbor: {@code Accept: application/cbor}로 선택한 응답 형식
+ *
+ * <p>본문 크기(바이트)는 벤치마크마다 보조 지표 {@code bytes}로 함께 보고합니다 (스레드 1개 기준).
+ *
+ * <p>실행: {@code ./gradlew jmh} (할당량은 {@code -prof gc}로 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResponseFormatBenchmark {
+
+    private ObjectWriter jsonWriter;
+    private ObjectWriter cborWriter;
+
+    private SocialLoginResponse loginResponse;
+    private List<TermsResponse> terms;
+
+    @Setup
+    public void setUp() {
+        jsonWriter = JsonMapper.builder().build().writerFor(EnvelopeBody.class);
+        cborWriter = CBORMapper.builder().build().writerFor(EnvelopeBody.class);
+
+        loginResponse =
+                new SocialLoginResponse(
+                        "session-1",
+                        "a".repeat(300),
+                        3_600_000L,
+                        "r".repeat(64),
+                        1_209_600_000L,
+                        UserStatus.ACTIVE,
+                        "위트",
+                        "https://cdn.wit.com/profile/1.png");
+        terms =
+                List.of(
+                        new TermsResponse(
+                                "terms-service",
+                                TermsType.TERMS_OF_SERVICE,
+                                "서비스 이용약관",
+                                "https://wit.notion.site/terms/terms-of-service/v1.0",
+                                "v1.0",
+                                true),
+                        new TermsResponse(
+                                "terms-privacy",
+                                TermsType.PRIVACY_POLICY,
+                                "개인정보 처리방침",
+                                "https://wit.notion.site/terms/privacy-policy/v1.0",
+                                "v1.0",
+                                true),
+                        new TermsResponse(
+                                "terms-marketing",
+                                TermsType.MARKETING,
+                                "마케팅 수신 동의",
+                                "https://wit.notion.site/terms/marketing/v1.0",
+                                "v1.0",
+                                false));
+    }
+
+    @Benchmark
+    public byte[] loginResponse_json(BodySize size) {
+        return size.record(jsonWriter.writeValueAsBytes(EnvelopeBody.success(200, loginResponse)));
+    }
+
+    @Benchmark
+    public byte[] loginResponse_cbor(BodySize size) {
+        return size.record(cborWriter.writeValueAsBytes(EnvelopeBody.success(200, loginResponse)));
+    }
+
+    @Benchmark
+    public byte[] terms_json(BodySize size) {
+        return size.record(jsonWriter.writeValueAsBytes(EnvelopeBody.success(200, terms)));
+    }
+
+    @Benchmark
+    public byte[] terms_cbor(BodySize size) {
+        return size.record(cborWriter.writeValueAsBytes(EnvelopeBody.success(200, terms)));
+    }
+
+    /** 마지막으로 인코딩한 본문 크기 (JMH가 반복마다 보조 지표로 수집). */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class BodySize {
+
+        public long bytes;
+
+        byte[] record(byte[] body) {
+            bytes = body.length;
+            return body;
+        }
+    }
+}
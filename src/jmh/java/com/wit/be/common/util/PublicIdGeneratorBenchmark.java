@@ -0,0 +1,49 @@
+package com.wit.be.common.util;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 공개 ID 생성 벤치마크.
+ *
+ * <p>legacy: 전역 단조 증가 팩토리 하나를 공유하는 {@code UlidCreator.getMonotonicUlid()} <br>
+ * striped: 스레드별 stripe로 나눈 {@link PublicIdGenerator#generate()}
+ *
+ * <p>실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PublicIdGeneratorBenchmark {
+
+    @Benchmark
+    @Threads(1)
+    public String legacy_1() {
+        return UlidCreator.getMonotonicUlid().toString();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public String legacy_32() {
+        return UlidCreator.getMonotonicUlid().toString();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String striped_1() {
+        return PublicIdGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public String striped_32() {
+        return PublicIdGenerator.generate();
+    }
+}
@@ -0,0 +1,123 @@
+package com.wit.be.infra.config;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.wit.be.auth.dto.request.SocialLoginRequest;
+import com.wit.be.auth.dto.response.SocialLoginResponse;
+import com.wit.be.common.response.BaseResponse;
+import com.wit.be.common.response.EnvelopeBody;
+import com.wit.be.terms.domain.TermsType;
+import com.wit.be.terms.dto.response.TermsResponse;
+import com.wit.be.user.domain.UserStatus;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * 요청/응답 DTO 직렬화 벤치마크.
+ *
+ * <p>legacy: 모듈 없는 매퍼로 호출마다 타입을 찾고 {@link BaseResponse}로 감싸던 기존 경로 <br>
+ * tuned: Blackbird 모듈을 등록한 매퍼, 미리 만든 {@link ObjectWriter}/{@link ObjectReader}와 {@link
+ * EnvelopeBody}
+ *
+ * <p>실행: {@code ./gradlew jmh} (할당량은 {@code -prof gc}로 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JacksonBenchmark {
+
+    private JsonMapper legacyMapper;
+    private ObjectWriter envelopeWriter;
+    private ObjectReader loginRequestReader;
+
+    private SocialLoginResponse loginResponse;
+    private List<TermsResponse> terms;
+    private byte[] loginRequest;
+
+    @Setup
+    public void setUp() {
+        legacyMapper = JsonMapper.builder().build();
+        JsonMapper tunedMapper = JsonMapper.builder().addModule(new BlackbirdModule()).build();
+        envelopeWriter = tunedMapper.writerFor(EnvelopeBody.class);
+        loginRequestReader = tunedMapper.readerFor(SocialLoginRequest.class);
+
+        loginResponse =
+                new SocialLoginResponse(
+                        "session-1",
+                        "a".repeat(300),
+                        3_600_000L,
+                        "r".repeat(64),
+                        1_209_600_000L,
+                        UserStatus.ACTIVE,
+                        "위트",
+                        "https://cdn.wit.com/profile/1.png");
+        terms =
+                List.of(
+                        new TermsResponse(
+                                "terms-service",
+                                TermsType.TERMS_OF_SERVICE,
+                                "서비스 이용약관",
+                                "https://wit.notion.site/terms/terms-of-service/v1.0",
+                                "v1.0",
+                                true),
+                        new TermsResponse(
+                                "terms-privacy",
+                                TermsType.PRIVACY_POLICY,
+                                "개인정보 처리방침",
+                                "https://wit.notion.site/terms/privacy-policy/v1.0",
+                                "v1.0",
+                                true),
+                        new TermsResponse(
+                                "terms-marketing",
+                                TermsType.MARKETING,
+                                "마케팅 수신 동의",
+                                "https://wit.notion.site/terms/marketing/v1.0",
+                                "v1.0",
+                                false));
+        loginRequest =
+                "{\"socialType\":\"KAKAO\",\"token\":\"%s\",\"sessionId\":\"session-1\"}"
+                        .formatted("t".repeat(200))
+                        .getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public byte[] loginResponse_legacy() {
+        return legacyMapper.writeValueAsBytes(BaseResponse.success(200, loginResponse));
+    }
+
+    @Benchmark
+    public byte[] loginResponse_tuned() {
+        return envelopeWriter.writeValueAsBytes(EnvelopeBody.success(200, loginResponse));
+    }
+
+    @Benchmark
+    public byte[] terms_legacy() {
+        return legacyMapper.writeValueAsBytes(BaseResponse.success(200, terms));
+    }
+
+    @Benchmark
+    public byte[] terms_tuned() {
+        return envelopeWriter.writeValueAsBytes(EnvelopeBody.success(200, terms));
+    }
+
+    @Benchmark
+    public SocialLoginRequest loginRequest_legacy() {
+        return legacyMapper.readValue(loginRequest, SocialLoginRequest.class);
+    }
+
+    @Benchmark
+    public SocialLoginRequest loginRequest_tuned() {
+        return loginRequestReader.readValue(loginRequest);
+    }
+}
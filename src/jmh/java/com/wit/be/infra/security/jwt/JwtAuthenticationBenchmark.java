@@ -0,0 +1,109 @@
+package com.wit.be.infra.security.jwt;
+
+import static io.jsonwebtoken.security.Keys.hmacShaKeyFor;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.wit.be.infra.properties.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * JwtFilter 인증 경로 벤치마크.
+ *
+ * <p>legacy: 요청마다 파서를 두 번 생성하고 서명 검증/클레임 파싱을 두 번 수행하던 기존 경로 <br>
+ * singlePass: 공유 파서로 한 번만 검증하는 {@link JwtUtil#authenticate(String)}
+ *
+ * <p>실행: {@code ./gradlew jmh} (할당량은 {@code -prof gc}로 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-minimum-256-bits-required";
+
+    private JwtUtil jwtUtil;
+    private SecretKey secretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(new JwtProperties(SECRET, "wit-bench", 3_600_000L, 2_592_000_000L));
+        jwtUtil.initSecretKey();
+        secretKey = hmacShaKeyFor(SECRET.getBytes(UTF_8));
+        accessToken = jwtUtil.generateAccessToken(1L, List.of("ROLE_USER"), "bench");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Authentication legacy_1() {
+        return legacyAuthenticate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Authentication legacy_8() {
+        return legacyAuthenticate();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Authentication legacy_32() {
+        return legacyAuthenticate();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Authentication singlePass_1() {
+        return jwtUtil.authenticate(accessToken);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Authentication singlePass_8() {
+        return jwtUtil.authenticate(accessToken);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Authentication singlePass_32() {
+        return jwtUtil.authenticate(accessToken);
+    }
+
+    /** 기존 validateToken + getAuthentication 경로 재현 */
+    private Authentication legacyAuthenticate() {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken);
+
+        Claims claims =
+                Jwts.parser()
+                        .verifyWith(secretKey)
+                        .build()
+                        .parseSignedClaims(accessToken)
+                        .getPayload();
+        List<GrantedAuthority> authorities =
+                Stream.of(claims.get("authorities", String.class).split(","))
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toList());
+
+        User principal = new User(claims.getSubject(), "", authorities);
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    }
+}
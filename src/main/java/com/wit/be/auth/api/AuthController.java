@@ -2,18 +2,27 @@ package com.wit.be.auth.api;
 
 import com.wit.be.auth.application.AuthService;
 import com.wit.be.auth.dto.request.SocialLoginRequest;
+import com.wit.be.auth.dto.request.TokenRefreshRequest;
+import com.wit.be.auth.dto.response.SessionResponse;
 import com.wit.be.auth.dto.response.SocialLoginResponse;
+import com.wit.be.auth.dto.response.TokenRefreshResponse;
+import com.wit.be.common.annotation.CurrentAccessToken;
+import com.wit.be.common.annotation.CurrentSessionId;
 import com.wit.be.common.annotation.CurrentUserId;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-@Tag(name = "01. 인증", description = "소셜 로그인 및 로그아웃 API")
+@Tag(name = "01. 인증", description = "소셜 로그인, 토큰 재발급 및 로그아웃 API")
 @RestController
 @RequestMapping("/v1/auth")
 @RequiredArgsConstructor
@@ -28,9 +37,40 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenRefreshResponse> refresh(
+            @Valid @RequestBody TokenRefreshRequest request) {
+        TokenRefreshResponse response = authService.refresh(request);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@CurrentUserId Long userId) {
-        authService.logout(userId);
+    public ResponseEntity<Void> logout(
+            @CurrentUserId Long userId,
+            @CurrentSessionId String sessionId,
+            @CurrentAccessToken String accessToken) {
+        authService.logout(userId, sessionId, accessToken);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/logout/all")
+    public ResponseEntity<Void> logoutAll(
+            @CurrentUserId Long userId, @CurrentAccessToken String accessToken) {
+        authService.logoutAll(userId, accessToken);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/sessions")
+    public ResponseEntity<List<SessionResponse>> getSessions(
+            @CurrentUserId Long userId, @CurrentSessionId String sessionId) {
+        List<SessionResponse> response = authService.getSessions(userId, sessionId);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Void> revokeSession(
+            @CurrentUserId Long userId, @PathVariable String sessionId) {
+        authService.revokeSession(userId, sessionId);
         return ResponseEntity.noContent().build();
     }
 }
@@ -1,7 +1,11 @@
 package com.wit.be.auth.application;
 
 import com.wit.be.auth.dto.request.SocialLoginRequest;
+import com.wit.be.auth.dto.request.TokenRefreshRequest;
+import com.wit.be.auth.dto.response.SessionResponse;
 import com.wit.be.auth.dto.response.SocialLoginResponse;
+import com.wit.be.auth.dto.response.TokenRefreshResponse;
+import java.util.List;
 
 /** 인증 서비스 인터페이스 */
 public interface AuthService {
@@ -15,9 +19,46 @@ public interface AuthService {
     SocialLoginResponse socialLogin(SocialLoginRequest request);
 
     /**
-     * 로그아웃을 수행합니다.
+     * Refresh Token으로 토큰을 재발급합니다. 사용한 Refresh Token은 즉시 폐기됩니다.
+     *
+     * @param request 재발급 요청 (refreshToken)
+     * @return 새 Access Token과 Refresh Token
+     */
+    TokenRefreshResponse refresh(TokenRefreshRequest request);
+
+    /**
+     * 현재 세션(기기)에서 로그아웃합니다. 다른 기기의 세션은 유지됩니다.
+     *
+     * <p>요청에 사용한 액세스 토큰도 폐기되어 만료 전이라도 더 이상 사용할 수 없습니다.
+     *
+     * @param userId 사용자 ID
+     * @param sessionId 로그아웃할 세션 ID
+     * @param accessToken 요청에 사용한 액세스 토큰
+     */
+    void logout(Long userId, String sessionId, String accessToken);
+
+    /**
+     * 모든 세션(기기)에서 로그아웃합니다.
+     *
+     * @param userId 사용자 ID
+     * @param accessToken 요청에 사용한 액세스 토큰
+     */
+    void logoutAll(Long userId, String accessToken);
+
+    /**
+     * 다른 세션(기기)의 Refresh Token을 폐기합니다. 해당 기기는 액세스 토큰이 만료되면 다시 로그인해야 합니다.
+     *
+     * @param userId 사용자 ID
+     * @param sessionId 폐기할 세션 ID
+     */
+    void revokeSession(Long userId, String sessionId);
+
+    /**
+     * 로그인된 세션(기기) 목록을 조회합니다.
      *
      * @param userId 사용자 ID
+     * @param currentSessionId 현재 요청의 세션 ID (현재 기기 표시용)
+     * @return 세션 목록
      */
-    void logout(Long userId);
+    List<SessionResponse> getSessions(Long userId, String currentSessionId);
 }
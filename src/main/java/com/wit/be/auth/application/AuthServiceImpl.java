@@ -1,14 +1,24 @@
 package com.wit.be.auth.application;
 
 import com.wit.be.auth.dto.request.SocialLoginRequest;
+import com.wit.be.auth.dto.request.TokenRefreshRequest;
+import com.wit.be.auth.dto.response.SessionResponse;
 import com.wit.be.auth.dto.response.SocialLoginResponse;
+import com.wit.be.auth.dto.response.TokenRefreshResponse;
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.common.util.PublicIdGenerator;
 import com.wit.be.infra.oauth.dto.OAuthUserInfo;
 import com.wit.be.infra.oauth.validator.AppleOAuthValidator;
 import com.wit.be.infra.oauth.validator.GoogleOAuthValidator;
 import com.wit.be.infra.oauth.validator.KakaoOAuthValidator;
+import com.wit.be.infra.oauth.validator.OAuthValidationCoalescer;
 import com.wit.be.infra.oauth.validator.OAuthValidator;
+import com.wit.be.infra.redis.AccessTokenDenylist;
 import com.wit.be.infra.redis.RefreshTokenRepository;
+import com.wit.be.infra.security.exception.JwtErrorCode;
 import com.wit.be.infra.security.jwt.JwtUtil;
+import com.wit.be.infra.security.jwt.VerifiedRefreshToken;
+import com.wit.be.infra.security.jwt.VerifiedTokenCache;
 import com.wit.be.user.application.UserQueryService;
 import com.wit.be.user.application.UserService;
 import com.wit.be.user.domain.SocialType;
@@ -17,7 +27,6 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -28,13 +37,16 @@ public class AuthServiceImpl implements AuthService {
     private final UserQueryService userQueryService;
     private final JwtUtil jwtUtil;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     private final KakaoOAuthValidator kakaoOAuthValidator;
     private final GoogleOAuthValidator googleOAuthValidator;
     private final AppleOAuthValidator appleOAuthValidator;
+    private final OAuthValidationCoalescer oAuthValidationCoalescer;
 
+    // 공급자 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션은 findOrCreateUser에서만 시작
     @Override
-    @Transactional
     public SocialLoginResponse socialLogin(SocialLoginRequest request) {
         // 1. OAuth 토큰 검증 및 사용자 정보 조회
         OAuthUserInfo oAuthUserInfo = validateOAuthToken(request.socialType(), request.token());
@@ -50,35 +62,98 @@ public class AuthServiceImpl implements AuthService {
                 userService.findOrCreateUser(
                         request.socialType(), oAuthUserInfo.providerId(), oAuthUserInfo.email());
 
-        // 3. JWT 토큰 생성
+        // 3. JWT 토큰 생성 (기기가 세션 ID를 보내지 않으면 새로 발급)
+        String sessionId =
+                request.sessionId() != null ? request.sessionId() : PublicIdGenerator.generate();
         List<String> roles = List.of("ROLE_" + user.getRole().getValue().toUpperCase());
-        String accessToken = jwtUtil.generateAccessToken(user.getId(), roles);
-        String refreshToken = jwtUtil.generateRefreshToken(user.getId(), roles);
+        String accessToken = jwtUtil.generateAccessToken(user.getId(), roles, sessionId);
+        String refreshToken = jwtUtil.generateRefreshToken(user.getId(), roles, sessionId);
 
-        // 4. Refresh Token 저장
+        // 4. 세션의 Refresh Token 저장 (다른 기기의 세션은 유지)
         refreshTokenRepository.save(
-                user.getId(), refreshToken, jwtUtil.getRefreshTokenExpiration());
+                user.getId(), sessionId, refreshToken, jwtUtil.getRefreshTokenExpiration());
 
         log.info(
                 "Social login successful - userId: {}, status: {}", user.getId(), user.getStatus());
 
         return SocialLoginResponse.from(
                 user,
+                sessionId,
                 accessToken,
                 refreshToken,
                 jwtUtil.getAccessTokenExpiration(),
                 jwtUtil.getRefreshTokenExpiration());
     }
 
+    // DB를 조회하지 않고 토큰 클레임과 Redis만으로 처리
     @Override
-    public void logout(Long userId) {
-        refreshTokenRepository.deleteByUserId(userId);
-        log.info("User logged out - userId: {}", userId);
+    public TokenRefreshResponse refresh(TokenRefreshRequest request) {
+        VerifiedRefreshToken verified = jwtUtil.verifyRefreshToken(request.refreshToken());
+
+        // sid 없는 이전 토큰은 기본 세션으로 옮김
+        String sessionId =
+                verified.sessionId() != null ? verified.sessionId() : JwtUtil.DEFAULT_SESSION_ID;
+        String accessToken =
+                jwtUtil.generateAccessToken(verified.userId(), verified.roles(), sessionId);
+        String refreshToken =
+                jwtUtil.generateRefreshToken(verified.userId(), verified.roles(), sessionId);
+
+        // 저장된 토큰과 같을 때만 교체 (이미 사용했거나 로그아웃된 토큰이면 실패)
+        boolean rotated =
+                refreshTokenRepository.rotate(
+                        verified.userId(),
+                        verified.sessionId(),
+                        request.refreshToken(),
+                        refreshToken,
+                        jwtUtil.getRefreshTokenExpiration());
+        if (!rotated) {
+            log.warn("Refresh token rejected - userId: {}", verified.userId());
+            throw new BusinessException(JwtErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        return new TokenRefreshResponse(
+                accessToken,
+                jwtUtil.getAccessTokenExpiration(),
+                refreshToken,
+                jwtUtil.getRefreshTokenExpiration());
+    }
+
+    @Override
+    public void logout(Long userId, String sessionId, String accessToken) {
+        refreshTokenRepository.deleteSession(userId, sessionId);
+        revokeAccessToken(userId, accessToken);
+        log.info("User logged out - userId: {}, sessionId: {}", userId, sessionId);
+    }
+
+    @Override
+    public void logoutAll(Long userId, String accessToken) {
+        refreshTokenRepository.deleteAllSessions(userId);
+        revokeAccessToken(userId, accessToken);
+        log.info("User logged out from all sessions - userId: {}", userId);
+    }
+
+    @Override
+    public void revokeSession(Long userId, String sessionId) {
+        refreshTokenRepository.deleteSession(userId, sessionId);
+        log.info("Session revoked - userId: {}, sessionId: {}", userId, sessionId);
+    }
+
+    @Override
+    public List<SessionResponse> getSessions(Long userId, String currentSessionId) {
+        return refreshTokenRepository.findSessions(userId).stream()
+                .map(session -> SessionResponse.of(session, currentSessionId))
+                .toList();
+    }
+
+    /** 토큰의 남은 수명 동안 폐기 목록에 올리고, 이 서버의 검증 캐시에서도 제거합니다. */
+    private void revokeAccessToken(Long userId, String accessToken) {
+        accessTokenDenylist.revoke(accessToken, jwtUtil.getTokenExpirationTime(accessToken));
+        verifiedTokenCache.evictByUserId(userId);
     }
 
     private OAuthUserInfo validateOAuthToken(SocialType socialType, String token) {
         OAuthValidator validator = getOAuthValidator(socialType);
-        return validator.validate(token);
+        return oAuthValidationCoalescer.validate(socialType.name(), token, validator);
     }
 
     private OAuthValidator getOAuthValidator(SocialType socialType) {
@@ -3,7 +3,22 @@ package com.wit.be.auth.dto.request;
 import com.wit.be.user.domain.SocialType;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 
+/**
+ * 소셜 로그인 요청.
+ *
+ * @param socialType 소셜 타입
+ * @param token 공급자 토큰
+ * @param sessionId 기기별 세션 ID (선택, 같은 기기에서 재로그인 시 같은 값을 보내면 해당 세션만 교체)
+ */
 public record SocialLoginRequest(
         @NotNull(message = "소셜 타입은 필수입니다.") SocialType socialType,
-        @NotBlank(message = "토큰은 필수입니다.") String token) {}
+        @NotBlank(message = "토큰은 필수입니다.") String token,
+        @Pattern(regexp = "^[A-Za-z0-9_-]{1,64}$", message = "세션 ID 형식이 올바르지 않습니다.")
+                String sessionId) {
+
+    public SocialLoginRequest(SocialType socialType, String token) {
+        this(socialType, token, null);
+    }
+}
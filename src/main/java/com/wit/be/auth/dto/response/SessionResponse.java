@@ -0,0 +1,21 @@
+package com.wit.be.auth.dto.response;
+
+import com.wit.be.infra.redis.RefreshSession;
+import java.time.Instant;
+
+/**
+ * 로그인 세션(기기) 정보.
+ *
+ * @param sessionId 세션 ID
+ * @param expiresAt 세션 만료 시각
+ * @param current 현재 요청을 보낸 세션인지 여부
+ */
+public record SessionResponse(String sessionId, Instant expiresAt, boolean current) {
+
+    public static SessionResponse of(RefreshSession session, String currentSessionId) {
+        return new SessionResponse(
+                session.sessionId(),
+                session.expiresAt(),
+                session.sessionId().equals(currentSessionId));
+    }
+}
@@ -4,6 +4,7 @@ import com.wit.be.user.domain.User;
 import com.wit.be.user.domain.UserStatus;
 
 public record SocialLoginResponse(
+        String sessionId,
         String accessToken,
         long accessTokenExpiresIn,
         String refreshToken,
@@ -14,11 +15,13 @@ public record SocialLoginResponse(
 
     public static SocialLoginResponse from(
             User user,
+            String sessionId,
             String accessToken,
             String refreshToken,
             long accessTokenExpiresIn,
             long refreshTokenExpiresIn) {
         return new SocialLoginResponse(
+                sessionId,
                 accessToken,
                 accessTokenExpiresIn,
                 refreshToken,
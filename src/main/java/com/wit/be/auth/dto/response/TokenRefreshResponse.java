@@ -0,0 +1,7 @@
+package com.wit.be.auth.dto.response;
+
+public record TokenRefreshResponse(
+        String accessToken,
+        long accessTokenExpiresIn,
+        String refreshToken,
+        long refreshTokenExpiresIn) {}
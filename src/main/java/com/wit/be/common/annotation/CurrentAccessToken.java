@@ -0,0 +1,22 @@
+package com.wit.be.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 현재 요청의 액세스 토큰 원문을 주입받기 위한 어노테이션.
+ *
+ * <p>사용 예시:
+ *
+ * <pre>{@code
+ * @PostMapping("/logout")
+ * public void logout(@CurrentUserId Long userId, @CurrentAccessToken String accessToken) {
+ *     ...
+ * }
+ * }</pre>
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentAccessToken {}
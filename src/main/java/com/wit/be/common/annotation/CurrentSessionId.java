@@ -0,0 +1,23 @@
+package com.wit.be.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 현재 액세스 토큰이 속한 세션(기기) ID를 주입받기 위한 어노테이션.
+ *
+ * <p>사용 예시:
+ *
+ * <pre>{@code
+ * @GetMapping("/sessions")
+ * public List<SessionResponse> getSessions(
+ *         @CurrentUserId Long userId, @CurrentSessionId String sessionId) {
+ *     return authService.getSessions(userId, sessionId);
+ * }
+ * }</pre>
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentSessionId {}
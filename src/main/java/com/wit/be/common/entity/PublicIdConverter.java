@@ -0,0 +1,49 @@
+package com.wit.be.common.entity;
+
+import com.github.f4b6a3.ulid.Ulid;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.UUID;
+
+/**
+ * 공개 ID(ULID 문자열) ↔ UUID 변환기.
+ *
+ * <p>애플리케이션과 API에서는 26자 ULID 문자열을 쓰고, DB에는 16바이트 UUID로 저장해 인덱스 크기를 줄입니다. ULID와 UUID는
+ * 모두 128비트이므로 손실 없이 변환됩니다.
+ */
+@Converter
+public class PublicIdConverter implements AttributeConverter<String, UUID> {
+
+    /** 형식이 잘못된 ID로 조회할 때 쓰는 값. 생성되는 ULID와 겹치지 않으므로 아무 행과도 일치하지 않습니다. */
+    private static final UUID NO_MATCH = new UUID(0L, 0L);
+
+    @Override
+    public UUID convertToDatabaseColumn(String publicId) {
+        return publicId != null ? toUuid(publicId) : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(UUID uuid) {
+        return uuid != null ? Ulid.from(uuid).toString() : null;
+    }
+
+    /**
+     * 공개 ID를 UUID로 변환합니다. 네이티브 쿼리 파라미터 바인딩에도 사용합니다.
+     *
+     * @param publicId ULID 문자열
+     * @return UUID (형식이 잘못된 경우 어떤 행과도 일치하지 않는 값)
+     */
+    public static UUID toUuid(String publicId) {
+        return Ulid.isValid(publicId) ? Ulid.from(publicId).toUuid() : NO_MATCH;
+    }
+
+    /**
+     * 공개 ID를 정규 표기(대문자 ULID)로 바꿉니다. 대소문자만 다른 ID를 같은 키로 다룰 때 사용합니다.
+     *
+     * @param publicId ULID 문자열
+     * @return 정규 표기 (형식이 잘못된 경우 입력 그대로)
+     */
+    public static String normalize(String publicId) {
+        return Ulid.isValid(publicId) ? Ulid.from(publicId).toString() : publicId;
+    }
+}
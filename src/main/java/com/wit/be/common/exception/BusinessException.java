@@ -3,23 +3,31 @@ package com.wit.be.common.exception;
 import com.wit.be.common.exception.code.ErrorCode;
 import lombok.Getter;
 
+/**
+ * 비즈니스 예외.
+ *
+ * <p>만료된 토큰처럼 자주 발생하는 예상된 실패이므로, {@link ErrorCode#captureStackTrace()}가 true인 코드만 스택 트레이스를
+ * 만듭니다.
+ */
 @Getter
 public class BusinessException extends RuntimeException {
 
     private final ErrorCode errorCode;
 
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage(), null);
     }
 
     public BusinessException(ErrorCode errorCode, String message) {
-        super(message);
-        this.errorCode = errorCode;
+        this(errorCode, message, null);
     }
 
     public BusinessException(ErrorCode errorCode, Throwable cause) {
-        super(errorCode.getMessage(), cause);
+        this(errorCode, errorCode.getMessage(), cause);
+    }
+
+    private BusinessException(ErrorCode errorCode, String message, Throwable cause) {
+        super(message, cause, true, errorCode.captureStackTrace());
         this.errorCode = errorCode;
     }
 }
@@ -9,4 +9,13 @@ public interface ErrorCode {
     String getCode();
 
     String getMessage();
+
+    /**
+     * 이 코드로 던지는 {@link com.wit.be.common.exception.BusinessException}에 스택 트레이스를 남길지 여부.
+     *
+     * <p>대부분은 원인이 코드와 메시지로 충분하므로 스택 트레이스를 만들지 않습니다. 서버 측 장애처럼 호출 경로가 필요한 코드만 재정의합니다.
+     */
+    default boolean captureStackTrace() {
+        return false;
+    }
 }
@@ -25,7 +25,12 @@ public enum GlobalErrorCode implements ErrorCode {
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "GLOBAL__040", "지원하지 않는 HTTP method입니다."),
 
     // 500 Internal Server Error
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "GLOBAL__500", "서버 내부 오류가 발생했습니다.");
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "GLOBAL__500", "서버 내부 오류가 발생했습니다.") {
+        @Override
+        public boolean captureStackTrace() {
+            return true;
+        }
+    };
 
     private final HttpStatus httpStatus;
     private final String code;
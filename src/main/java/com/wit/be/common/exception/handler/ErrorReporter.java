@@ -0,0 +1,112 @@
+package com.wit.be.common.exception.handler;
+
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.common.exception.code.ErrorCode;
+import com.wit.be.infra.properties.ErrorLogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 에러 메트릭과 로그 기록.
+ *
+ * <p>모든 에러는 코드별 카운터로 집계하고, 로그는 에러 코드마다 구간당 {@code max-per-window}개까지만 남긴 뒤 나머지는 {@code
+ * sample-rate}개마다 하나씩 남깁니다. 배포 직후 만료 토큰이 몰려도 로그가 폭증하지 않으며, 생략한 개수는 다음 로그에 함께 남깁니다.
+ *
+ * <p>메트릭: {@code app.errors{code,status}}
+ */
+@Slf4j
+@Component
+public class ErrorReporter {
+
+    private final MeterRegistry meterRegistry;
+    private final ErrorLogProperties properties;
+    private final Map<ErrorCode, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<ErrorCode, LogWindow> windows = new ConcurrentHashMap<>();
+
+    public ErrorReporter(MeterRegistry meterRegistry, ErrorLogProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    /**
+     * 비즈니스 예외를 집계하고, 한도 안이면 로그를 남깁니다.
+     *
+     * @param e 비즈니스 예외
+     * @return 로그를 남겼으면 true
+     */
+    public boolean report(BusinessException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        count(errorCode);
+
+        long suppressed = windows.computeIfAbsent(errorCode, code -> new LogWindow()).acquire();
+        if (suppressed < 0) {
+            return false;
+        }
+
+        if (errorCode.captureStackTrace()) {
+            log.warn(
+                    "BusinessException - code: {}, message: {}, suppressed: {}",
+                    errorCode.getCode(),
+                    e.getMessage(),
+                    suppressed,
+                    e);
+        } else {
+            log.warn(
+                    "BusinessException - code: {}, message: {}, suppressed: {}",
+                    errorCode.getCode(),
+                    e.getMessage(),
+                    suppressed);
+        }
+        return true;
+    }
+
+    /**
+     * 로그 없이 에러만 집계합니다.
+     *
+     * @param errorCode 에러 코드
+     */
+    public void count(ErrorCode errorCode) {
+        counters.computeIfAbsent(
+                        errorCode,
+                        code ->
+                                meterRegistry.counter(
+                                        "app.errors",
+                                        "code",
+                                        code.getCode(),
+                                        "status",
+                                        String.valueOf(code.getHttpStatus().value())))
+                .increment();
+    }
+
+    /** 에러 코드별 로그 구간 */
+    private final class LogWindow {
+
+        private long windowStart = System.nanoTime();
+        private int logged;
+        private long suppressed;
+
+        /** 로그를 남겨야 하면 그동안 생략한 개수를, 아니면 -1을 반환합니다. */
+        private synchronized long acquire() {
+            long now = System.nanoTime();
+            if (now - windowStart >= properties.window().toNanos()) {
+                windowStart = now;
+                logged = 0;
+            }
+
+            boolean sampled =
+                    properties.sampleRate() > 0 && (suppressed + 1) % properties.sampleRate() == 0;
+            if (logged < properties.maxPerWindow() || sampled) {
+                logged++;
+                long skipped = suppressed;
+                suppressed = 0;
+                return skipped;
+            }
+            suppressed++;
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.wit.be.common.exception.handler;
+
+import com.wit.be.common.exception.code.ErrorCode;
+import com.wit.be.common.exception.dto.ErrorResponse;
+import com.wit.be.common.response.EnvelopeTemplate;
+import com.wit.be.common.response.ResponseFormat;
+import com.wit.be.common.response.ResponseTimestamp;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * 에러 코드별 응답 본문을 미리 직렬화해 두는 렌더러.
+ *
+ * <p>기동 시 모든 {@link ErrorCode} enum을 찾아 응답 시각(timestamp)만 비워 둔 본문을 JSON과 CBOR로 만들어 두고, 응답할 때는
+ * {@link ResponseTimestamp}의 시각만 채워 씁니다. 에러 코드의 기본 메시지를 쓰는 응답에만 사용합니다.
+ *
+ * <p>클라이언트가 CBOR를 요청하면 ({@link ResponseFormat}) 같은 내용을 CBOR로 응답합니다. 두 형식 모두 Spring Boot가 구성한 매퍼로
+ * 직렬화하므로 컨버터를 거친 응답과 설정이 같습니다.
+ */
+@Slf4j
+@Component
+public class ErrorResponseRenderer {
+
+    private static final String BASE_PACKAGE = "com.wit.be";
+
+    private final JsonMapper jsonMapper;
+    private final CBORMapper cborMapper;
+    private final Map<ErrorCode, Templates> templates = new ConcurrentHashMap<>();
+
+    public ErrorResponseRenderer(JsonMapper jsonMapper, CBORMapper cborMapper) {
+        this.jsonMapper = jsonMapper;
+        this.cborMapper = cborMapper;
+        for (ErrorCode errorCode : findErrorCodes()) {
+            templates.put(errorCode, render(errorCode));
+        }
+        log.info("Error responses pre-rendered - codes: {}", templates.size());
+    }
+
+    /**
+     * 에러 코드의 기본 메시지로 응답 본문을 만듭니다.
+     *
+     * @param errorCode 에러 코드
+     * @return JSON 본문
+     */
+    public byte[] body(ErrorCode errorCode) {
+        return body(errorCode, ResponseFormat.JSON);
+    }
+
+    /**
+     * 에러 코드의 기본 메시지로 협상한 형식의 응답 본문을 만듭니다.
+     *
+     * @param errorCode 에러 코드
+     * @param format 협상한 응답 형식
+     * @return 응답 본문
+     */
+    public byte[] body(ErrorCode errorCode, ResponseFormat format) {
+        Templates template = templates.computeIfAbsent(errorCode, this::render);
+        return format == ResponseFormat.CBOR ? template.cbor().render() : template.json().render();
+    }
+
+    /**
+     * 컨트롤러 예외 처리용 응답을 만듭니다.
+     *
+     * @param errorCode 에러 코드
+     * @param format 협상한 응답 형식
+     * @return 미리 직렬화한 본문을 담은 응답
+     */
+    public ResponseEntity<Object> toResponseEntity(ErrorCode errorCode, ResponseFormat format) {
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .contentType(format.mediaType())
+                .body(body(errorCode, format));
+    }
+
+    /**
+     * 필터에서 응답을 직접 씁니다.
+     *
+     * @param request 서블릿 요청 (응답 형식 협상용)
+     * @param response 서블릿 응답
+     * @param errorCode 에러 코드
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, ErrorCode errorCode)
+            throws IOException {
+        ResponseFormat format = ResponseFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        byte[] body = body(errorCode, format);
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(format.mediaType().toString());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private Templates render(ErrorCode errorCode) {
+        int status = errorCode.getHttpStatus().value();
+        ErrorResponse data = ErrorResponse.of(errorCode.getCode(), errorCode.getMessage());
+        return new Templates(
+                EnvelopeTemplate.fail(jsonMapper, status, data),
+                EnvelopeTemplate.fail(cborMapper, status, data));
+    }
+
+    private static List<ErrorCode> findErrorCodes() {
+        ClassPathScanningCandidateComponentProvider scanner =
+                new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(ErrorCode.class));
+
+        List<ErrorCode> errorCodes = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            Class<?> type =
+                    ClassUtils.resolveClassName(
+                            candidate.getBeanClassName(), ClassUtils.getDefaultClassLoader());
+            if (type.isEnum()) {
+                for (Object constant : type.getEnumConstants()) {
+                    errorCodes.add((ErrorCode) constant);
+                }
+            }
+        }
+        return errorCodes;
+    }
+
+    private record Templates(EnvelopeTemplate json, EnvelopeTemplate cbor) {}
+}
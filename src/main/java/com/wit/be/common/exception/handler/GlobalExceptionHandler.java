@@ -4,8 +4,10 @@ import com.wit.be.common.exception.BusinessException;
 import com.wit.be.common.exception.code.ErrorCode;
 import com.wit.be.common.exception.code.GlobalErrorCode;
 import com.wit.be.common.exception.dto.ErrorResponse;
-import com.wit.be.common.response.BaseResponse;
+import com.wit.be.common.response.EnvelopeBody;
+import com.wit.be.common.response.ResponseFormat;
 import java.util.List;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpHeaders;
@@ -22,18 +24,25 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
-    /** BusinessException 처리 */
+    private final ErrorResponseRenderer errorResponseRenderer;
+    private final ErrorReporter errorReporter;
+
+    /** BusinessException 처리 (기본 메시지면 미리 직렬화한 본문으로 응답) */
     @ExceptionHandler(BusinessException.class)
-    public ResponseEntity<BaseResponse<ErrorResponse>> handleBusinessException(
-            BusinessException e) {
-        log.warn("BusinessException: {}", e.getMessage(), e);
+    public ResponseEntity<Object> handleBusinessException(
+            BusinessException e, WebRequest request) {
+        errorReporter.report(e);
 
         ErrorCode errorCode = e.getErrorCode();
+        if (errorCode.getMessage().equals(e.getMessage())) {
+            return errorResponseRenderer.toResponseEntity(errorCode, format(request));
+        }
+
         ErrorResponse errorResponse = ErrorResponse.of(errorCode.getCode(), e.getMessage());
-        BaseResponse<ErrorResponse> response =
-                BaseResponse.fail(errorCode.getHttpStatus().value(), errorResponse);
+        EnvelopeBody response = EnvelopeBody.fail(errorCode.getHttpStatus().value(), errorResponse);
 
         return ResponseEntity.status(errorCode.getHttpStatus()).body(response);
     }
@@ -45,12 +54,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
             HttpHeaders headers,
             HttpStatusCode status,
             WebRequest request) {
-        ErrorCode errorCode = GlobalErrorCode.METHOD_NOT_ALLOWED;
-        ErrorResponse errorResponse = ErrorResponse.of(errorCode.getCode(), errorCode.getMessage());
-        BaseResponse<ErrorResponse> response =
-                BaseResponse.fail(errorCode.getHttpStatus().value(), errorResponse);
-
-        return ResponseEntity.status(errorCode.getHttpStatus()).body(response);
+        return fixedErrorResponse(GlobalErrorCode.METHOD_NOT_ALLOWED, request);
     }
 
     /**
@@ -63,14 +67,14 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
             HttpStatusCode status,
             WebRequest request) {
         ErrorCode errorCode = GlobalErrorCode.INVALID_INPUT_VALUE;
+        errorReporter.count(errorCode);
         List<String> errors =
                 ex.getBindingResult().getFieldErrors().stream()
                         .map(DefaultMessageSourceResolvable::getDefaultMessage)
                         .toList();
         ErrorResponse errorResponse =
                 ErrorResponse.of(errorCode.getCode(), String.join(", ", errors));
-        BaseResponse<ErrorResponse> response =
-                BaseResponse.fail(errorCode.getHttpStatus().value(), errorResponse);
+        EnvelopeBody response = EnvelopeBody.fail(errorCode.getHttpStatus().value(), errorResponse);
 
         return ResponseEntity.status(errorCode.getHttpStatus()).body(response);
     }
@@ -84,48 +88,39 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
             WebRequest request) {
         log.warn("HttpMessageNotReadable: {}", ex.getMessage());
 
-        ErrorCode errorCode = GlobalErrorCode.HTTP_MESSAGE_NOT_READABLE;
-        ErrorResponse errorResponse = ErrorResponse.of(errorCode.getCode(), errorCode.getMessage());
-        BaseResponse<ErrorResponse> response =
-                BaseResponse.fail(errorCode.getHttpStatus().value(), errorResponse);
-
-        return ResponseEntity.status(errorCode.getHttpStatus()).body(response);
+        return fixedErrorResponse(GlobalErrorCode.HTTP_MESSAGE_NOT_READABLE, request);
     }
 
     /** 타입 불일치 */
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
-    public ResponseEntity<BaseResponse<ErrorResponse>> handleMethodArgumentTypeMismatch(
-            MethodArgumentTypeMismatchException e) {
-        ErrorCode errorCode = GlobalErrorCode.METHOD_ARGUMENT_TYPE_MISMATCH;
-        ErrorResponse errorResponse = ErrorResponse.of(errorCode.getCode(), errorCode.getMessage());
-        BaseResponse<ErrorResponse> response =
-                BaseResponse.fail(errorCode.getHttpStatus().value(), errorResponse);
-
-        return ResponseEntity.status(errorCode.getHttpStatus()).body(response);
+    public ResponseEntity<Object> handleMethodArgumentTypeMismatch(
+            MethodArgumentTypeMismatchException e, WebRequest request) {
+        return fixedErrorResponse(GlobalErrorCode.METHOD_ARGUMENT_TYPE_MISMATCH, request);
     }
 
     /** RuntimeException */
     @ExceptionHandler(RuntimeException.class)
-    public ResponseEntity<BaseResponse<ErrorResponse>> handleRuntimeException(RuntimeException e) {
+    public ResponseEntity<Object> handleRuntimeException(RuntimeException e, WebRequest request) {
         log.error("Unexpected RuntimeException: ", e);
 
-        return createInternalServerErrorResponse();
+        return fixedErrorResponse(GlobalErrorCode.INTERNAL_SERVER_ERROR, request);
     }
 
     /** Exception (최종 fallback) */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<BaseResponse<ErrorResponse>> handleException(Exception e) {
+    public ResponseEntity<Object> handleException(Exception e, WebRequest request) {
         log.error("Unhandled Exception: ", e);
 
-        return createInternalServerErrorResponse();
+        return fixedErrorResponse(GlobalErrorCode.INTERNAL_SERVER_ERROR, request);
     }
 
-    private ResponseEntity<BaseResponse<ErrorResponse>> createInternalServerErrorResponse() {
-        ErrorCode errorCode = GlobalErrorCode.INTERNAL_SERVER_ERROR;
-        ErrorResponse errorResponse = ErrorResponse.of(errorCode.getCode(), errorCode.getMessage());
-        BaseResponse<ErrorResponse> response =
-                BaseResponse.fail(errorCode.getHttpStatus().value(), errorResponse);
+    private ResponseEntity<Object> fixedErrorResponse(ErrorCode errorCode, WebRequest request) {
+        errorReporter.count(errorCode);
+        return errorResponseRenderer.toResponseEntity(errorCode, format(request));
+    }
 
-        return ResponseEntity.status(errorCode.getHttpStatus()).body(response);
+    // 미리 직렬화한 본문은 컨버터를 거치지 않으므로 응답 형식을 직접 협상
+    private static ResponseFormat format(WebRequest request) {
+        return ResponseFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
     }
 }
@@ -10,6 +10,12 @@ import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
+/**
+ * 컨트롤러의 2xx 응답을 {@link BaseResponse} 형식으로 감쌉니다.
+ *
+ * <p>{@link BaseResponse} 레코드를 만들지 않고 {@link EnvelopeBody}가 선택된 Jackson 컨버터(JSON, CBOR) 안에서 감싸는
+ * 필드를 직접 씁니다.
+ */
 @RestControllerAdvice(basePackages = "com.wit.be")
 public class BaseResponseAdvice implements ResponseBodyAdvice<Object> {
 
@@ -32,15 +38,17 @@ public class BaseResponseAdvice implements ResponseBodyAdvice<Object> {
         int status = servletResponse.getStatus();
         HttpStatus resolve = HttpStatus.resolve(status);
 
+        // byte[]는 BaseResponse까지 미리 직렬화된 본문 (예: 활성 약관 카탈로그)
         if (resolve == null
                 || body instanceof String
+                || body instanceof byte[]
                 || body == null
                 || Void.class.equals(returnType.getParameterType())) {
             return body;
         }
 
         if (resolve.is2xxSuccessful()) {
-            return BaseResponse.success(status, body);
+            return EnvelopeBody.success(status, body);
         }
 
         return body;
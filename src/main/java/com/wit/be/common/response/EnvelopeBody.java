@@ -0,0 +1,57 @@
+package com.wit.be.common.response;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JacksonSerializable;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * 응답 본문을 {@link BaseResponse}와 같은 형식으로 직접 쓰는 래퍼.
+ *
+ * <p>{@code success, status, data, timestamp} 필드를 생성기에 바로 쓰고 {@code data}는 출력 스트림으로 이어서 직렬화하므로,
+ * 큰 목록도 중간 객체나 버퍼 없이 내보냅니다.
+ */
+public final class EnvelopeBody extends JacksonSerializable.Base {
+
+    private final boolean success;
+    private final int status;
+    private final Object data;
+    private final String timestamp;
+
+    private EnvelopeBody(boolean success, int status, Object data, String timestamp) {
+        this.success = success;
+        this.status = status;
+        this.data = data;
+        this.timestamp = timestamp;
+    }
+
+    public static EnvelopeBody success(int status, Object data) {
+        return new EnvelopeBody(true, status, data, ResponseTimestamp.now());
+    }
+
+    public static EnvelopeBody fail(int status, Object data) {
+        return new EnvelopeBody(false, status, data, ResponseTimestamp.now());
+    }
+
+    static EnvelopeBody success(int status, Object data, String timestamp) {
+        return new EnvelopeBody(true, status, data, timestamp);
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializationContext context) {
+        generator.writeStartObject();
+        generator.writeBooleanProperty("success", success);
+        generator.writeNumberProperty("status", status);
+        generator.writeName("data");
+        context.writeValue(generator, data);
+        generator.writeStringProperty("timestamp", timestamp);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(
+            JsonGenerator generator, SerializationContext context, TypeSerializer typeSerializer) {
+        // 다형 타입 정보 없이 항상 같은 형식으로 씀
+        serialize(generator, context);
+    }
+}
@@ -0,0 +1,121 @@
+package com.wit.be.common.response;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * 응답 시각(timestamp) 자리만 비워 두고 미리 직렬화한 {@link BaseResponse} 본문.
+ *
+ * <p>응답할 때 {@link ResponseTimestamp}의 현재 시각만 채워 넣으므로, 본문은 한 번만 직렬화하면서도 응답 시각은 요청마다 새로 씁니다.
+ * CBOR는 문자열 앞에 길이가 들어가므로 길이 헤더도 함께 다시 씁니다.
+ */
+public final class EnvelopeTemplate {
+
+    /** 본문에서 응답 시각 위치를 찾기 위한 값 */
+    private static final LocalDateTime PLACEHOLDER = LocalDateTime.of(2000, 1, 1, 0, 0, 0, 1);
+
+    private static final byte[] PLACEHOLDER_BYTES =
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(PLACEHOLDER).getBytes(UTF_8);
+
+    /** CBOR 텍스트 문자열 (major type 3) */
+    private static final int CBOR_TEXT = 0x60;
+
+    private final byte[] prefix;
+    private final byte[] suffix;
+    private final boolean cbor;
+
+    private EnvelopeTemplate(byte[] prefix, byte[] suffix, boolean cbor) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.cbor = cbor;
+    }
+
+    /**
+     * 성공 응답 템플릿을 만듭니다.
+     *
+     * @param mapper 직렬화에 사용할 매퍼 (JSON 또는 CBOR)
+     * @param status HTTP 상태 코드
+     * @param data 응답 데이터
+     * @return 응답 템플릿
+     */
+    public static EnvelopeTemplate success(ObjectMapper mapper, int status, Object data) {
+        return of(mapper, new BaseResponse<>(true, status, data, PLACEHOLDER));
+    }
+
+    /**
+     * 실패 응답 템플릿을 만듭니다.
+     *
+     * @param mapper 직렬화에 사용할 매퍼 (JSON 또는 CBOR)
+     * @param status HTTP 상태 코드
+     * @param data 응답 데이터
+     * @return 응답 템플릿
+     */
+    public static EnvelopeTemplate fail(ObjectMapper mapper, int status, Object data) {
+        return of(mapper, new BaseResponse<>(false, status, data, PLACEHOLDER));
+    }
+
+    /**
+     * 현재 응답 시각을 채운 본문을 만듭니다.
+     *
+     * @return 응답 본문
+     */
+    public byte[] render() {
+        byte[] timestamp = ResponseTimestamp.nowBytes();
+        byte[] header = cbor ? cborTextHeader(timestamp.length) : new byte[0];
+
+        byte[] body = new byte[prefix.length + header.length + timestamp.length + suffix.length];
+        int offset = 0;
+        System.arraycopy(prefix, 0, body, offset, prefix.length);
+        offset += prefix.length;
+        System.arraycopy(header, 0, body, offset, header.length);
+        offset += header.length;
+        System.arraycopy(timestamp, 0, body, offset, timestamp.length);
+        offset += timestamp.length;
+        System.arraycopy(suffix, 0, body, offset, suffix.length);
+        return body;
+    }
+
+    private static EnvelopeTemplate of(ObjectMapper mapper, BaseResponse<?> response) {
+        boolean cbor = mapper instanceof CBORMapper;
+        byte[] rendered = mapper.writeValueAsBytes(response);
+        int index = lastIndexOf(rendered, PLACEHOLDER_BYTES);
+        if (index < 0) {
+            // 응답 시각을 ISO-8601 문자열이 아닌 형식으로 직렬화하도록 설정이 바뀐 경우
+            throw new IllegalStateException("Unexpected timestamp format");
+        }
+
+        int start = index;
+        if (cbor) {
+            byte[] header = cborTextHeader(PLACEHOLDER_BYTES.length);
+            start -= header.length;
+            if (start < 0 || !Arrays.equals(rendered, start, index, header, 0, header.length)) {
+                throw new IllegalStateException("Unexpected CBOR timestamp header");
+            }
+        }
+        return new EnvelopeTemplate(
+                Arrays.copyOfRange(rendered, 0, start),
+                Arrays.copyOfRange(rendered, index + PLACEHOLDER_BYTES.length, rendered.length),
+                cbor);
+    }
+
+    private static byte[] cborTextHeader(int length) {
+        // 응답 시각 문자열은 255바이트를 넘지 않으므로 1바이트 길이까지만 사용
+        return length < 24
+                ? new byte[] {(byte) (CBOR_TEXT | length)}
+                : new byte[] {(byte) (CBOR_TEXT | 24), (byte) length};
+    }
+
+    private static int lastIndexOf(byte[] source, byte[] target) {
+        for (int i = source.length - target.length; i >= 0; i--) {
+            if (Arrays.equals(source, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
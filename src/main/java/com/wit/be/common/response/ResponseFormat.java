@@ -0,0 +1,61 @@
+package com.wit.be.common.response;
+
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 응답 본문 형식.
+ *
+ * <p>기본은 JSON이며, 클라이언트가 {@code Accept}로 CBOR를 JSON보다 우선 요청한 경우에만 CBOR로 응답합니다. 컨트롤러 응답은 Spring
+ * MVC가 협상하고, 직접 본문을 쓰는 경로(미리 직렬화한 본문, 필터)는 이 규칙으로 같은 결과를 냅니다.
+ */
+public enum ResponseFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    private final MediaType mediaType;
+
+    ResponseFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * {@code Accept} 헤더로 응답 형식을 정합니다.
+     *
+     * @param accept Accept 헤더 값 (없으면 null)
+     * @return 응답 형식
+     */
+    public static ResponseFormat negotiate(String accept) {
+        // 대부분의 요청은 CBOR를 언급하지 않으므로 파싱하지 않음
+        if (accept == null || !accept.contains("cbor")) {
+            return JSON;
+        }
+
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(mediaTypes);
+        } catch (IllegalArgumentException e) {
+            return JSON;
+        }
+
+        // 품질값, 구체성 순으로 정렬되어 있으므로 처음 맞는 형식을 사용
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)) {
+                return CBOR;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return JSON;
+            }
+        }
+        return JSON;
+    }
+}
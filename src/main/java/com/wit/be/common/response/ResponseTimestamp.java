@@ -0,0 +1,59 @@
+package com.wit.be.common.response;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 응답 본문의 응답 시각(timestamp).
+ *
+ * <p>밀리초 단위로 잘라 포맷한 문자열을 캐시해 두고, 시각이 바뀐 경우에만 다시 포맷합니다. 같은 밀리초 안의 응답은 같은 문자열을 씁니다.
+ */
+public final class ResponseTimestamp {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static volatile Tick tick = format(System.currentTimeMillis());
+
+    private ResponseTimestamp() {}
+
+    /**
+     * 현재 응답 시각을 {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} 형식으로 반환합니다.
+     *
+     * @return 응답 시각 문자열
+     */
+    public static String now() {
+        return current().text();
+    }
+
+    /**
+     * 현재 응답 시각을 UTF-8 바이트로 반환합니다. 반환된 배열은 수정하면 안 됩니다.
+     *
+     * @return 응답 시각 바이트
+     */
+    public static byte[] nowBytes() {
+        return current().bytes();
+    }
+
+    private static Tick current() {
+        long millis = System.currentTimeMillis();
+        Tick current = tick;
+        if (current.millis() != millis) {
+            current = format(millis);
+            tick = current;
+        }
+        return current;
+    }
+
+    private static Tick format(long millis) {
+        String text =
+                DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE));
+        return new Tick(millis, text, text.getBytes(UTF_8));
+    }
+
+    private record Tick(long millis, String text, byte[] bytes) {}
+}
@@ -1,6 +1,7 @@
 package com.wit.be.common.util;
 
-import com.github.f4b6a3.ulid.UlidCreator;
+import com.github.f4b6a3.ulid.Ulid;
+import java.security.SecureRandom;
 
 /**
  * 외부 노출용 공개 ID 생성 유틸리티.
@@ -13,19 +14,77 @@ import com.github.f4b6a3.ulid.UlidCreator;
  *   <li>URL-safe (Base32 인코딩)
  *   <li>UUID보다 짧고 가독성이 좋음
  * </ul>
+ *
+ * <p>전역 락 하나를 쓰는 {@code UlidCreator.getMonotonicUlid()} 대신 스레드 ID로 나눈 여러 개의 단조 증가 생성기(stripe)를
+ * 사용해 동시 생성 시 경합을 줄입니다. 랜덤 영역(80비트)의 상위 비트에 stripe 번호를 넣으므로 stripe 간에는 값이 겹치지 않고,
+ * stripe 안에서는 같은 밀리초에 이전 값 + 1을 발급해 유일성을 보장합니다.
  */
 public final class PublicIdGenerator {
 
+    private static final int STRIPE_BITS = 6;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+
+    /** ULID 상위 64비트 중 랜덤 영역(하위 16비트)에서 stripe 번호를 제외한 비트 수 */
+    private static final int RANDOM_HIGH_BITS = 16 - STRIPE_BITS;
+
+    private static final Stripe[] STRIPE_TABLE = new Stripe[STRIPES];
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            STRIPE_TABLE[i] = new Stripe(i);
+        }
+    }
+
     private PublicIdGenerator() {}
 
     /**
      * 새로운 ULID를 생성합니다.
      *
-     * <p>Monotonic ULID를 사용하여 같은 밀리초 내에서도 유일성을 보장합니다.
+     * <p>같은 stripe 안에서는 단조 증가하므로 같은 밀리초 내에서도 유일성을 보장합니다.
      *
      * @return 26자 ULID 문자열
      */
     public static String generate() {
-        return UlidCreator.getMonotonicUlid().toString();
+        return nextUlid().toString();
+    }
+
+    /**
+     * 새로운 ULID를 생성합니다.
+     *
+     * @return ULID
+     */
+    public static Ulid nextUlid() {
+        long threadId = Thread.currentThread().threadId();
+        return STRIPE_TABLE[(int) (threadId & (STRIPES - 1))].next();
+    }
+
+    /** 단조 증가 ULID 생성기 하나 */
+    private static final class Stripe {
+
+        private static final long RANDOM_HIGH_MASK = (1L << RANDOM_HIGH_BITS) - 1;
+
+        private final long stripeBits;
+        private final SecureRandom random = new SecureRandom();
+
+        private long lastTime;
+        private long randomHigh;
+        private long randomLow;
+
+        Stripe(int index) {
+            this.stripeBits = (long) index << RANDOM_HIGH_BITS;
+        }
+
+        synchronized Ulid next() {
+            long time = System.currentTimeMillis();
+            if (time > lastTime) {
+                lastTime = time;
+                randomHigh = stripeBits | (random.nextLong() & RANDOM_HIGH_MASK);
+                randomLow = random.nextLong();
+            } else if (++randomLow == 0) {
+                // 같은 밀리초(또는 시계 역행): 이전 값 + 1. 74비트가 넘칠 만큼 발급하는 것은 불가능
+                randomHigh++;
+            }
+            return new Ulid((lastTime << 16) | randomHigh, randomLow);
+        }
     }
 }
@@ -0,0 +1,36 @@
+package com.wit.be.common.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 해시 유틸리티.
+ *
+ * <p>토큰 원문 대신 고정 길이(32바이트) SHA-256 다이제스트를 캐시 키나 저장값으로 사용할 때 씁니다.
+ */
+public final class TokenHasher {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    /** 다이제스트 길이 (바이트) */
+    public static final int DIGEST_LENGTH = 32;
+
+    private TokenHasher() {}
+
+    /**
+     * 토큰의 SHA-256 다이제스트를 계산합니다.
+     *
+     * @param token 토큰 원문
+     * @return 32바이트 다이제스트
+     */
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance(ALGORITHM).digest(token.getBytes(UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+}
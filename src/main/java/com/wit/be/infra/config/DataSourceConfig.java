@@ -0,0 +1,105 @@
+package com.wit.be.infra.config;
+
+import com.wit.be.infra.datasource.ReadYourWritesTracker;
+import com.wit.be.infra.datasource.ReplicaRoutingDataSource;
+import com.wit.be.infra.properties.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 주 DB와 읽기 전용 복제본 DataSource 설정.
+ *
+ * <p>{@link LazyConnectionDataSourceProxy}는 첫 쿼리 직전에 실제 커넥션을 얻으므로, 그때까지 커넥션에 표시된 읽기 전용 여부로
+ * {@code @Transactional(readOnly = true)}는 복제본으로, 나머지는 주 DB로 보냅니다.
+ *
+ * <p>주 DB 풀은 자동 설정과 같이 {@code spring.datasource.*}와 {@code spring.datasource.hikari.*}로
+ * 만듭니다. 복제본 풀도 {@code spring.datasource.hikari.*}를 공통으로 적용한 뒤 {@code datasource.replica.*} 값으로
+ * 덮어씁니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaDataSourceProperties properties) {
+        return new ReadYourWritesTracker(properties.readYourWritesWindow());
+    }
+
+    @Bean
+    @ConfigurationProperties(HIKARI_PREFIX)
+    public HikariDataSource primaryDataSource(
+            DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry) {
+        HikariDataSource primary =
+                dataSourceProperties
+                        .initializeDataSourceBuilder()
+                        .type(HikariDataSource.class)
+                        .build();
+        // pool-name을 설정하지 않았을 때의 기본값 (설정 값은 바인딩 시 덮어씀)
+        primary.setPoolName("primary");
+        primary.setMetricRegistry(meterRegistry);
+        return primary;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties dataSourceProperties,
+            ReplicaDataSourceProperties properties,
+            ReadYourWritesTracker readYourWritesTracker,
+            Environment environment,
+            MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        String username = dataSourceProperties.determineUsername();
+        String password = dataSourceProperties.determinePassword();
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.urls().size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            binder.bind(HIKARI_PREFIX, Bindable.ofInstance(replica));
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(properties.urls().get(i));
+            replica.setUsername(hasText(properties.username()) ? properties.username() : username);
+            replica.setPassword(hasText(properties.password()) ? properties.password() : password);
+            replica.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            replica.setMaximumPoolSize(properties.maximumPoolSize());
+            replica.setConnectionTimeout(properties.connectionTimeout().toMillis());
+            replica.setReadOnly(true);
+            replica.setMetricRegistry(meterRegistry);
+            replicas.add(replica);
+        }
+
+        ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(
+                        primaryDataSource, replicas, readYourWritesTracker, meterRegistry);
+        routingDataSource.startHealthCheck(properties.healthCheckInterval());
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource =
+                new LazyConnectionDataSourceProxy(replicaRoutingDataSource.getPrimary());
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
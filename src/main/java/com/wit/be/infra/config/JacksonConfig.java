@@ -1,14 +1,54 @@
 package com.wit.be.infra.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wit.be.auth.dto.request.SocialLoginRequest;
+import com.wit.be.auth.dto.request.TokenRefreshRequest;
+import com.wit.be.auth.dto.response.SocialLoginResponse;
+import com.wit.be.terms.dto.request.TermsAgreementRequest;
+import com.wit.be.terms.dto.response.TermsResponse;
+import com.wit.be.user.dto.response.UserResponse;
+import java.util.List;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
 
+/**
+ * Jackson 설정.
+ *
+ * <p>애플리케이션 전체가 Spring Boot가 구성한 {@link JsonMapper} 하나를 사용합니다. 모듈 빈은 Boot가 매퍼에 등록하며, 날짜/시간
+ * 타입은 Jackson 3에 기본 포함되어 있어 별도 모듈이 필요 없습니다.
+ *
+ * <p>CBOR 본문을 미리 직렬화할 때도 매퍼를 직접 만들지 않고 Boot가 구성한 {@code CBORMapper}를 주입받아 같은 모듈과 설정을 씁니다.
+ */
 @Configuration
 public class JacksonConfig {
 
+    /** 요청마다 역직렬화되는 DTO */
+    private static final List<Class<?>> HOT_REQUEST_TYPES =
+            List.of(
+                    SocialLoginRequest.class,
+                    TokenRefreshRequest.class,
+                    TermsAgreementRequest.class);
+
+    /** 요청마다 직렬화되는 DTO */
+    private static final List<Class<?>> HOT_RESPONSE_TYPES =
+            List.of(SocialLoginResponse.class, TermsResponse.class, UserResponse.class);
+
+    /** 리플렉션 대신 생성한 접근자(LambdaMetafactory)로 프로퍼티를 읽고 씁니다. */
+    @Bean
+    public JacksonModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /** 자주 쓰는 DTO의 (역)직렬화기를 기동 시 미리 만들어 첫 요청이 생성 비용을 내지 않게 합니다. */
     @Bean
-    public ObjectMapper objectMapper() {
-        return new ObjectMapper();
+    public ApplicationListener<ApplicationReadyEvent> jacksonWarmUp(JsonMapper jsonMapper) {
+        return event -> {
+            HOT_REQUEST_TYPES.forEach(jsonMapper::readerFor);
+            HOT_RESPONSE_TYPES.forEach(jsonMapper::writerFor);
+        };
     }
 }
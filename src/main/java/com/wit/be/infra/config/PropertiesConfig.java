@@ -1,17 +1,39 @@
 package com.wit.be.infra.config;
 
 import com.wit.be.infra.properties.AppleOAuthProperties;
+import com.wit.be.infra.properties.ErrorLogProperties;
 import com.wit.be.infra.properties.GoogleOAuthProperties;
+import com.wit.be.infra.properties.JwtCacheProperties;
 import com.wit.be.infra.properties.JwtProperties;
+import com.wit.be.infra.properties.JwtRevocationProperties;
 import com.wit.be.infra.properties.KakaoOAuthProperties;
+import com.wit.be.infra.properties.OAuthHttpProperties;
+import com.wit.be.infra.properties.OAuthValidationCacheProperties;
+import com.wit.be.infra.properties.RefreshTokenStoreProperties;
+import com.wit.be.infra.properties.ReplicaDataSourceProperties;
+import com.wit.be.infra.properties.TermsCatalogProperties;
+import com.wit.be.infra.properties.TermsReconsentProperties;
+import com.wit.be.infra.properties.UserActivityProperties;
+import com.wit.be.infra.properties.UserCacheProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableConfigurationProperties({
     JwtProperties.class,
+    JwtCacheProperties.class,
+    JwtRevocationProperties.class,
     KakaoOAuthProperties.class,
     GoogleOAuthProperties.class,
-    AppleOAuthProperties.class
+    AppleOAuthProperties.class,
+    OAuthHttpProperties.class,
+    OAuthValidationCacheProperties.class,
+    RefreshTokenStoreProperties.class,
+    UserCacheProperties.class,
+    UserActivityProperties.class,
+    TermsCatalogProperties.class,
+    TermsReconsentProperties.class,
+    ReplicaDataSourceProperties.class,
+    ErrorLogProperties.class
 })
 public class PropertiesConfig {}
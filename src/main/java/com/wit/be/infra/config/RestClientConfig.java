@@ -1,20 +1,20 @@
 package com.wit.be.infra.config;
 
-import java.time.Duration;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration
 public class RestClientConfig {
 
+    /** 공통 RestClient 설정. 연결/타임아웃은 용도별 팩토리에서 지정합니다. */
     @Bean
-    public RestClient.Builder restClientBuilder() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(Duration.ofSeconds(5));
-        factory.setReadTimeout(Duration.ofSeconds(5));
-
-        return RestClient.builder().requestFactory(factory);
+    public RestClient.Builder restClientBuilder(
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return RestClient.builder()
+                .observationRegistry(
+                        observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
     }
 }
@@ -0,0 +1,35 @@
+package com.wit.be.infra.datasource;
+
+import java.util.function.Supplier;
+
+/** 읽기 전용 트랜잭션이라도 복제 지연 없이 주 DB에서 읽어야 하는 작업을 표시합니다. */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private DataSourceRouting() {}
+
+    /**
+     * 현재 스레드에서 작업이 여는 커넥션을 모두 주 DB로 보냅니다.
+     *
+     * <p>복제 지연 중에 읽은 값이 오래 남는 곳(예: 캐시 적재)에 사용합니다.
+     *
+     * @param task 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T onPrimary(Supplier<T> task) {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_ONLY.remove();
+            }
+        }
+    }
+
+    static boolean isPrimaryOnly() {
+        return PRIMARY_ONLY.get() != null;
+    }
+}
@@ -0,0 +1,64 @@
+package com.wit.be.infra.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * 사용자가 쓰기 트랜잭션을 커밋한 시점을 기록해, 정해진 시간 동안 그 사용자의 읽기를 주 DB로 보냅니다.
+ *
+ * <p>기록은 서버마다 따로 보관하므로 같은 사용자의 다음 요청이 다른 서버로 가면 적용되지 않습니다.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private static final int MAXIMUM_SIZE = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters =
+                window.isZero() || window.isNegative()
+                        ? null
+                        : Caffeine.newBuilder()
+                                .maximumSize(MAXIMUM_SIZE)
+                                .expireAfterWrite(window)
+                                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (recentWriters == null || commitFailure != null || transaction.isReadOnly()) {
+            return;
+        }
+        String userId = currentUserId();
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 현재 요청의 사용자가 최근에 쓰기를 커밋했는지 확인합니다.
+     *
+     * @return 주 DB에서 읽어야 하면 true
+     */
+    public boolean hasRecentWrite() {
+        if (recentWriters == null) {
+            return false;
+        }
+        String userId = currentUserId();
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            return null;
+        }
+        return user.getUsername();
+    }
+}
@@ -0,0 +1,160 @@
+package com.wit.be.infra.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * 읽기 전용 커넥션을 복제본으로 보내는 DataSource.
+ *
+ * <ul>
+ *   <li>정상 상태인 복제본을 돌아가며 사용하고, 커넥션을 얻지 못하면 해당 복제본을 장애로 표시한 뒤 다음 복제본 또는 주 DB로 넘어갑니다.
+ *   <li>장애로 표시된 복제본은 주기적인 상태 확인을 통과하면 다시 사용합니다.
+ *   <li>최근에 쓰기를 커밋한 사용자의 읽기와 {@link DataSourceRouting#onPrimary}로 표시된 작업은 주 DB로 보냅니다.
+ * </ul>
+ *
+ * <p>메트릭: {@code datasource.replica.reads{route=replica|pinned|fallback}}
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final ScheduledExecutorService HEALTH_CHECK_SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("datasource-replica-health").daemon().factory());
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter replicaReads;
+    private final Counter pinnedReads;
+    private final Counter fallbackReads;
+
+    private volatile ScheduledFuture<?> scheduled;
+
+    public ReplicaRoutingDataSource(
+            HikariDataSource primary,
+            List<HikariDataSource> replicas,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaReads = meterRegistry.counter("datasource.replica.reads", "route", "replica");
+        this.pinnedReads = meterRegistry.counter("datasource.replica.reads", "route", "pinned");
+        this.fallbackReads = meterRegistry.counter("datasource.replica.reads", "route", "fallback");
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    /**
+     * 복제본 상태 확인을 시작합니다.
+     *
+     * @param interval 확인 주기
+     */
+    public void startHealthCheck(Duration interval) {
+        long intervalMillis = interval.toMillis();
+        scheduled =
+                HEALTH_CHECK_SCHEDULER.scheduleWithFixedDelay(
+                        this::checkHealth, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (DataSourceRouting.isPrimaryOnly() || readYourWritesTracker.hasRecentWrite()) {
+            pinnedReads.increment();
+            return primary.getConnection();
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica routing uses pool credentials");
+    }
+
+    /** 각 복제본에 커넥션을 얻어 유효한지 확인하고 상태를 갱신합니다. */
+    void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+
+            if (healthy && !replica.healthy) {
+                replica.healthy = true;
+                log.info("Replica recovered - pool: {}", replica.dataSource.getPoolName());
+            } else if (!healthy && replica.healthy) {
+                markDown(replica, null);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        ScheduledFuture<?> current = scheduled;
+        if (current != null) {
+            current.cancel(false);
+        }
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    private void markDown(Replica replica, SQLException cause) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn(
+                    "Replica marked down, reading from other replicas or primary - pool: {}, "
+                            + "reason: {}",
+                    replica.dataSource.getPoolName(),
+                    cause != null ? cause.getMessage() : "validation failed");
+        }
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
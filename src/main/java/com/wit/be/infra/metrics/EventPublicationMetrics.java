@@ -0,0 +1,79 @@
+package com.wit.be.infra.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Modulith 이벤트 발행 기록(outbox)의 적체 게이지.
+ *
+ * <p>완료되지 않은 발행 기록 수와 가장 오래된 기록의 대기 시간을 노출합니다. 값은 수집 시점에 조회하되, 여러 수집기가 짧은 간격으로
+ * 읽어도 DB는 {@link #MIN_REFRESH_INTERVAL}마다 한 번만 조회합니다.
+ *
+ * <p>메트릭: {@code modulith.events.incomplete}, {@code modulith.events.oldest-incomplete.age}
+ */
+@Slf4j
+@Component
+public class EventPublicationMetrics {
+
+    private static final String BACKLOG_SQL =
+            "SELECT COUNT(*), MIN(publication_date) FROM event_publication"
+                    + " WHERE completion_date IS NULL";
+
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(10);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private Backlog backlog;
+
+    public EventPublicationMetrics(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        Gauge.builder("modulith.events.incomplete", this, metrics -> metrics.current().count())
+                .description("완료되지 않은 이벤트 발행 기록 수")
+                .register(meterRegistry);
+        Gauge.builder(
+                        "modulith.events.oldest-incomplete.age",
+                        this,
+                        metrics -> metrics.current().oldestAgeSeconds())
+                .description("가장 오래된 미완료 이벤트 발행 기록의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    private synchronized Backlog current() {
+        long now = System.nanoTime();
+        if (backlog != null && now - backlog.loadedAt() < MIN_REFRESH_INTERVAL.toNanos()) {
+            return backlog;
+        }
+
+        try {
+            backlog =
+                    jdbcTemplate.queryForObject(
+                            BACKLOG_SQL,
+                            (rs, rowNum) ->
+                                    new Backlog(
+                                            now, rs.getLong(1), ageSeconds(rs.getTimestamp(2))));
+        } catch (DataAccessException e) {
+            // 조회에 실패하면 값이 없는 것으로 노출하고 다음 주기에 다시 조회
+            log.warn("Event publication backlog query failed - reason: {}", e.getMessage());
+            backlog = new Backlog(now, Double.NaN, Double.NaN);
+        }
+        return backlog;
+    }
+
+    private static double ageSeconds(Timestamp oldest) {
+        if (oldest == null) {
+            return 0.0;
+        }
+        return Duration.between(oldest.toInstant(), Instant.now()).toMillis() / 1000.0;
+    }
+
+    private record Backlog(long loadedAt, double count, double oldestAgeSeconds) {}
+}
@@ -0,0 +1,145 @@
+package com.wit.be.infra.oauth.client;
+
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.infra.oauth.exception.OAuthErrorCode;
+import com.wit.be.infra.properties.OAuthHttpProperties.Limit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 공급자별 동시 요청 수를 제한하는 인터셉터.
+ *
+ * <p>한 공급자가 느려져도 나머지 공급자의 로그인과 서버 스레드가 함께 묶이지 않도록, 제한을 넘는 요청은 잠시 대기한 뒤 {@link
+ * OAuthErrorCode#OAUTH_SERVER_ERROR}로 실패합니다.
+ *
+ * <p>허용량은 응답 본문을 다 읽고 응답을 닫을 때 반환하므로, 느리게 내려오는 본문을 읽는 동안에도 동시 요청 수에 포함됩니다.
+ *
+ * <p>메트릭: {@code oauth.http.client.in-flight}, {@code oauth.http.client.limit}, {@code
+ * oauth.http.client.acquire}, {@code oauth.http.client.rejected} (태그 provider)
+ */
+@Slf4j
+class ConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String provider;
+    private final int maxConcurrentRequests;
+    private final long acquireTimeoutNanos;
+    private final Semaphore permits;
+    private final Timer acquireTimer;
+    private final Counter rejected;
+
+    ConcurrencyLimitInterceptor(String provider, Limit limit, MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.maxConcurrentRequests = limit.maxConcurrentRequests();
+        this.acquireTimeoutNanos = limit.acquireTimeout().toNanos();
+        this.permits = new Semaphore(maxConcurrentRequests);
+
+        Gauge.builder("oauth.http.client.in-flight", this, ConcurrencyLimitInterceptor::inFlight)
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("oauth.http.client.limit", () -> maxConcurrentRequests)
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.acquireTimer =
+                Timer.builder("oauth.http.client.acquire")
+                        .tag("provider", provider)
+                        .register(meterRegistry);
+        this.rejected =
+                Counter.builder("oauth.http.client.rejected")
+                        .tag("provider", provider)
+                        .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(
+            HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        acquire();
+        try {
+            return new PermitReleasingResponse(execution.execute(request, body));
+        } catch (Throwable e) {
+            // 응답을 받지 못했으면 닫을 응답이 없으므로 바로 반환
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws InterruptedIOException {
+        long start = System.nanoTime();
+        try {
+            boolean acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                rejected.increment();
+                log.warn(
+                        "OAuth HTTP concurrency limit reached - provider: {}, limit: {}",
+                        provider,
+                        maxConcurrentRequests);
+                throw new BusinessException(OAuthErrorCode.OAUTH_SERVER_ERROR);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + provider);
+        }
+    }
+
+    int inFlight() {
+        return maxConcurrentRequests - permits.availablePermits();
+    }
+
+    /** 응답을 닫을 때 허용량을 한 번만 반환하는 래퍼. */
+    private final class PermitReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingResponse(ClientHttpResponse delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
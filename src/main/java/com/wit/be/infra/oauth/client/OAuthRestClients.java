@@ -0,0 +1,85 @@
+package com.wit.be.infra.oauth.client;
+
+import com.wit.be.infra.properties.OAuthHttpProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.net.http.HttpClient;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * OAuth 공급자별 RestClient 제공.
+ *
+ * <p>공급자마다 JDK {@link HttpClient}를 하나씩 두어 연결을 유지하고(keep-alive), 서버가 지원하면 HTTP/2로 요청을
+ * 다중화합니다. 동시 요청 수는 공급자별로 {@link ConcurrencyLimitInterceptor}가 제한합니다.
+ *
+ * <p>호스트별 지연 시간은 {@code http.client.requests} (태그 client.name)로 기록됩니다.
+ */
+@Slf4j
+@Component
+public class OAuthRestClients {
+
+    public static final String KAKAO = "kakao";
+    public static final String GOOGLE = "google";
+    public static final String APPLE = "apple";
+
+    private final RestClient.Builder restClientBuilder;
+    private final OAuthHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, RestClient> restClients = new ConcurrentHashMap<>();
+    private final Map<String, HttpClient> httpClients = new ConcurrentHashMap<>();
+
+    public OAuthRestClients(
+            RestClient.Builder restClientBuilder,
+            OAuthHttpProperties properties,
+            MeterRegistry meterRegistry) {
+        this.restClientBuilder = restClientBuilder;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 공급자 전용 RestClient를 반환합니다. 같은 공급자는 연결과 동시 요청 제한을 공유합니다.
+     *
+     * @param provider 공급자 이름 (kakao, google, apple)
+     * @return RestClient (baseUrl이 필요하면 {@code mutate()}로 지정)
+     */
+    public RestClient forProvider(String provider) {
+        return restClients.computeIfAbsent(provider, this::create);
+    }
+
+    private RestClient create(String provider) {
+        HttpClient httpClient =
+                HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_2)
+                        .connectTimeout(properties.connectTimeout())
+                        .followRedirects(HttpClient.Redirect.NEVER)
+                        .build();
+        httpClients.put(provider, httpClient);
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.readTimeout());
+
+        return restClientBuilder
+                .clone()
+                .requestFactory(requestFactory)
+                .requestInterceptor(
+                        new ConcurrencyLimitInterceptor(
+                                provider, properties.limitOf(provider), meterRegistry))
+                .build();
+    }
+
+    @PreDestroy
+    void close() {
+        httpClients.forEach(
+                (provider, httpClient) -> {
+                    log.debug("Closing OAuth HTTP client - provider: {}", provider);
+                    httpClient.close();
+                });
+    }
+}
@@ -14,7 +14,8 @@ import org.springframework.web.client.RestClient;
 /**
  * RestClient 기반 OAuthHttpClient 구현체.
  *
- * <p>Spring 6.1+의 RestClient를 사용하여 OAuth 공급자와 통신합니다.
+ * <p>Spring 6.1+의 RestClient를 사용하여 OAuth 공급자와 통신합니다. 연결과 동시 요청 제한은 {@link
+ * OAuthRestClients}가 공급자별로 관리합니다.
  */
 @Slf4j
 @Component
@@ -24,13 +25,21 @@ public class RestClientOAuthHttpClient implements OAuthHttpClient {
     private final RestClient googleRestClient;
 
     public RestClientOAuthHttpClient(
-            RestClient.Builder restClientBuilder,
+            OAuthRestClients oAuthRestClients,
             KakaoOAuthProperties kakaoProperties,
             GoogleOAuthProperties googleProperties) {
         this.kakaoRestClient =
-                restClientBuilder.clone().baseUrl(kakaoProperties.userInfoUrl()).build();
+                oAuthRestClients
+                        .forProvider(OAuthRestClients.KAKAO)
+                        .mutate()
+                        .baseUrl(kakaoProperties.userInfoUrl())
+                        .build();
         this.googleRestClient =
-                restClientBuilder.clone().baseUrl(googleProperties.tokenInfoUrl()).build();
+                oAuthRestClients
+                        .forProvider(OAuthRestClients.GOOGLE)
+                        .mutate()
+                        .baseUrl(googleProperties.tokenInfoUrl())
+                        .build();
     }
 
     @Override
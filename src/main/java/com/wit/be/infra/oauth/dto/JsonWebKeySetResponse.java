@@ -0,0 +1,9 @@
+package com.wit.be.infra.oauth.dto;
+
+import java.util.List;
+
+/** JWKS(JSON Web Key Set) 응답 */
+public record JsonWebKeySetResponse(List<JsonWebKey> keys) {
+
+    public record JsonWebKey(String kty, String kid, String use, String alg, String n, String e) {}
+}
@@ -10,7 +10,13 @@ import org.springframework.http.HttpStatus;
 public enum OAuthErrorCode implements ErrorCode {
     INVALID_ID_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH__001", "유효하지 않은 토큰입니다."),
     UNSUPPORTED_SOCIAL_TYPE(HttpStatus.BAD_REQUEST, "AUTH__002", "지원하지 않는 소셜 로그인입니다."),
-    OAUTH_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "AUTH__003", "OAuth 서버 오류가 발생했습니다."),
+    OAUTH_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "AUTH__003", "OAuth 서버 오류가 발생했습니다.") {
+        // 공급자 장애 원인 추적용
+        @Override
+        public boolean captureStackTrace() {
+            return true;
+        }
+    },
     INVALID_APPLE_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH__004", "Apple 토큰 검증에 실패했습니다.");
 
     private final HttpStatus httpStatus;
@@ -0,0 +1,29 @@
+package com.wit.be.infra.oauth.jwks;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.UnsupportedKeyException;
+import java.security.Key;
+import java.security.PublicKey;
+import lombok.RequiredArgsConstructor;
+
+/** JWT 헤더의 kid로 {@link JwksKeyRing}에서 서명 검증 키를 찾습니다. */
+@RequiredArgsConstructor
+public class JwksKeyLocator extends LocatorAdapter<Key> {
+
+    private final JwksKeyRing keyRing;
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            throw new UnsupportedKeyException("Missing kid header");
+        }
+
+        PublicKey key = keyRing.getKey(kid);
+        if (key == null) {
+            throw new UnsupportedKeyException("Unknown kid: " + kid);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,232 @@
+package com.wit.be.infra.oauth.jwks;
+
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.infra.oauth.dto.JsonWebKeySetResponse;
+import com.wit.be.infra.oauth.dto.JsonWebKeySetResponse.JsonWebKey;
+import com.wit.be.infra.oauth.exception.OAuthErrorCode;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+
+/**
+ * kid로 색인된 OAuth 공급자 공개키 모음.
+ *
+ * <p>JWKS를 로그인마다 조회하지 않고 {@link PublicKey}로 미리 변환해 보관합니다.
+ *
+ * <ul>
+ *   <li>최초 조회 이후에는 Cache-Control max-age에 맞춰 백그라운드에서 갱신합니다.
+ *   <li>모르는 kid가 들어오면 한 번 재조회합니다 (키 교체 대응).
+ *   <li>재조회 간격은 조회 성공 여부와 관계없이 마지막 시도 시각부터 셉니다. 키가 없는 상태에서 조회에 실패하면 재시도 대기 시간 동안은
+ *       공급자를 호출하지 않고 바로 실패합니다.
+ *   <li>동시에 여러 요청이 재조회를 유발해도 실제 HTTP 호출은 하나만 수행합니다 (single-flight).
+ * </ul>
+ */
+@Slf4j
+public class JwksKeyRing {
+
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+    private static final Duration MIN_MAX_AGE = Duration.ofMinutes(5);
+    private static final Duration MAX_MAX_AGE = Duration.ofHours(24);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    /** 모르는 kid로 인한 재조회 최소 간격 (잘못된 kid로 공급자를 두드리는 것을 방지) */
+    private static final Duration MIN_REFETCH_INTERVAL = Duration.ofSeconds(10);
+
+    private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age=(\\d+)");
+
+    private static final ScheduledExecutorService REFRESH_SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("jwks-refresh").daemon().factory());
+
+    private final String provider;
+    private final String keysUrl;
+    private final RestClient restClient;
+    private final Clock clock;
+
+    private volatile KeySnapshot snapshot = KeySnapshot.EMPTY;
+    private volatile Instant lastAttemptAt = Instant.EPOCH;
+    private final AtomicReference<CompletableFuture<KeySnapshot>> inFlight =
+            new AtomicReference<>();
+    private final AtomicReference<ScheduledFuture<?>> scheduled = new AtomicReference<>();
+
+    public JwksKeyRing(String provider, String keysUrl, RestClient restClient) {
+        this(provider, keysUrl, restClient, Clock.systemUTC());
+    }
+
+    JwksKeyRing(String provider, String keysUrl, RestClient restClient, Clock clock) {
+        this.provider = provider;
+        this.keysUrl = keysUrl;
+        this.restClient = restClient;
+        this.clock = clock;
+    }
+
+    /**
+     * kid에 해당하는 공개키를 반환합니다.
+     *
+     * @param kid JWT 헤더의 kid
+     * @return 공개키 (재조회 후에도 없으면 null)
+     * @throws BusinessException 키가 없는데 JWKS 조회에 실패했거나 직전 실패 후 재시도 대기 중인 경우
+     */
+    public PublicKey getKey(String kid) {
+        KeySnapshot current = snapshot;
+        if (current.isEmpty()) {
+            current = elapsedSinceLastAttempt(RETRY_DELAY) ? refreshAndWait() : failFast();
+        }
+
+        PublicKey key = current.keys().get(kid);
+        if (key == null && elapsedSinceLastAttempt(MIN_REFETCH_INTERVAL)) {
+            log.info("Unknown kid, refetching JWKS - provider: {}, kid: {}", provider, kid);
+            key = refreshAndWait().keys().get(kid);
+        }
+        return key;
+    }
+
+    /** 마지막 조회 시도(성공, 실패 모두) 이후 interval이 지났는지 확인합니다. */
+    private boolean elapsedSinceLastAttempt(Duration interval) {
+        return lastAttemptAt.plus(interval).isBefore(now());
+    }
+
+    // 방금 끝난 시도가 성공했을 수 있으므로 스냅샷을 다시 확인
+    private KeySnapshot failFast() {
+        KeySnapshot current = snapshot;
+        if (current.isEmpty()) {
+            throw new BusinessException(OAuthErrorCode.OAUTH_SERVER_ERROR);
+        }
+        return current;
+    }
+
+    private KeySnapshot refreshAndWait() {
+        try {
+            return refresh().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new BusinessException(OAuthErrorCode.OAUTH_SERVER_ERROR, e.getCause());
+        }
+    }
+
+    /** 진행 중인 조회가 있으면 그 결과를 공유하고, 없으면 새로 조회합니다. */
+    private CompletableFuture<KeySnapshot> refresh() {
+        CompletableFuture<KeySnapshot> created = new CompletableFuture<>();
+        CompletableFuture<KeySnapshot> existing = inFlight.compareAndExchange(null, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            KeySnapshot fetched = fetch();
+            snapshot = fetched;
+            scheduleRefresh(fetched.maxAge());
+            created.complete(fetched);
+        } catch (RuntimeException e) {
+            log.warn("JWKS fetch failed - provider: {}, reason: {}", provider, e.getMessage());
+            if (!snapshot.isEmpty()) {
+                scheduleRefresh(RETRY_DELAY);
+            }
+            created.completeExceptionally(e);
+        } finally {
+            lastAttemptAt = now();
+            inFlight.set(null);
+        }
+        return created;
+    }
+
+    /** 다음 백그라운드 갱신을 예약합니다. 이전 예약은 취소해 갱신 주기가 중복되지 않게 합니다. */
+    private void scheduleRefresh(Duration delay) {
+        ScheduledFuture<?> next =
+                REFRESH_SCHEDULER.schedule(
+                        (Runnable) this::refresh, delay.toMillis(), TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previous = scheduled.getAndSet(next);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private KeySnapshot fetch() {
+        ResponseEntity<JsonWebKeySetResponse> response =
+                restClient.get().uri(keysUrl).retrieve().toEntity(JsonWebKeySetResponse.class);
+        JsonWebKeySetResponse body = response.getBody();
+
+        if (body == null || body.keys() == null || body.keys().isEmpty()) {
+            throw new BusinessException(OAuthErrorCode.OAUTH_SERVER_ERROR);
+        }
+
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (JsonWebKey jwk : body.keys()) {
+            if (!"RSA".equals(jwk.kty()) || jwk.kid() == null) {
+                continue;
+            }
+            keys.put(jwk.kid(), toPublicKey(jwk));
+        }
+
+        Duration maxAge = parseMaxAge(response.getHeaders().getCacheControl());
+        log.info(
+                "JWKS refreshed - provider: {}, keys: {}, maxAge: {}s",
+                provider,
+                keys.size(),
+                maxAge.toSeconds());
+        return new KeySnapshot(Map.copyOf(keys), maxAge);
+    }
+
+    private PublicKey toPublicKey(JsonWebKey jwk) {
+        BigInteger n = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.n()));
+        BigInteger e = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.e()));
+
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(n, e));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Invalid RSA key - kid: " + jwk.kid(), ex);
+        }
+    }
+
+    static Duration parseMaxAge(String cacheControl) {
+        if (cacheControl == null) {
+            return DEFAULT_MAX_AGE;
+        }
+
+        Matcher matcher = MAX_AGE_PATTERN.matcher(cacheControl);
+        if (!matcher.find()) {
+            return DEFAULT_MAX_AGE;
+        }
+
+        Duration maxAge = Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+        if (maxAge.compareTo(MIN_MAX_AGE) < 0) {
+            return MIN_MAX_AGE;
+        }
+        return maxAge.compareTo(MAX_MAX_AGE) > 0 ? MAX_MAX_AGE : maxAge;
+    }
+
+    private Instant now() {
+        return clock.instant();
+    }
+
+    private record KeySnapshot(Map<String, PublicKey> keys, Duration maxAge) {
+
+        static final KeySnapshot EMPTY = new KeySnapshot(Map.of(), Duration.ZERO);
+
+        boolean isEmpty() {
+            return keys.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.wit.be.infra.oauth.jwks;
+
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.infra.oauth.exception.OAuthErrorCode;
+import com.wit.be.infra.properties.OidcVerificationProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import java.util.Collections;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestClient;
+
+/**
+ * OIDC ID 토큰을 공급자 JWKS로 로컬 검증합니다.
+ *
+ * <p>서명, exp(허용 오차 포함), iss, aud를 확인합니다. JWKS를 가져올 수 없으면 {@link
+ * OAuthErrorCode#OAUTH_SERVER_ERROR}를 던지므로 호출 측에서 원격 검증으로 대체할 수 있습니다.
+ */
+@Slf4j
+public class OidcIdTokenVerifier {
+
+    private final String provider;
+    private final JwtParser jwtParser;
+    private final Set<String> issuers;
+    private final Set<String> audiences;
+
+    public OidcIdTokenVerifier(
+            String provider, OidcVerificationProperties properties, RestClient restClient) {
+        if (properties.jwksUrl() == null || properties.jwksUrl().isBlank()) {
+            throw new IllegalStateException(provider + " OIDC jwks-url is not configured");
+        }
+        // aud 검증 없이는 다른 앱에 발급된 토큰도 통과하므로 필수
+        if (properties.audiences().isEmpty()) {
+            throw new IllegalStateException(provider + " OIDC audiences are not configured");
+        }
+
+        this.provider = provider;
+        this.issuers = Set.copyOf(properties.issuers());
+        this.audiences = Set.copyOf(properties.audiences());
+        this.jwtParser =
+                Jwts.parser()
+                        .keyLocator(
+                                new JwksKeyLocator(
+                                        new JwksKeyRing(
+                                                provider, properties.jwksUrl(), restClient)))
+                        .clockSkewSeconds(properties.clockSkew().toSeconds())
+                        .build();
+    }
+
+    /**
+     * ID 토큰을 검증하고 클레임을 반환합니다.
+     *
+     * @param idToken OIDC ID 토큰
+     * @return 검증된 클레임
+     * @throws BusinessException 토큰이 유효하지 않거나(INVALID_ID_TOKEN) JWKS 조회에 실패한
+     *     경우(OAUTH_SERVER_ERROR)
+     */
+    public Claims verify(String idToken) {
+        Claims claims;
+        try {
+            claims = jwtParser.parseSignedClaims(idToken).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("{} id token verification failed - reason: {}", provider, e.getMessage());
+            throw new BusinessException(OAuthErrorCode.INVALID_ID_TOKEN);
+        }
+
+        if (!issuers.isEmpty() && !issuers.contains(claims.getIssuer())) {
+            log.warn("{} id token issuer mismatch - iss: {}", provider, claims.getIssuer());
+            throw new BusinessException(OAuthErrorCode.INVALID_ID_TOKEN);
+        }
+
+        Set<String> tokenAudiences = claims.getAudience();
+        if (tokenAudiences == null || Collections.disjoint(audiences, tokenAudiences)) {
+            log.warn("{} id token audience mismatch - aud: {}", provider, tokenAudiences);
+            throw new BusinessException(OAuthErrorCode.INVALID_ID_TOKEN);
+        }
+        return claims;
+    }
+
+    /** 서명된 JWT(header.payload.signature) 형태인지 확인합니다. 불투명 Access Token은 false. */
+    public static boolean isJws(String token) {
+        if (token == null) {
+            return false;
+        }
+        int first = token.indexOf('.');
+        int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+        return second > first + 1
+                && second < token.length() - 1
+                && token.indexOf('.', second + 1) < 0;
+    }
+}
@@ -1,64 +1,53 @@
 package com.wit.be.infra.oauth.validator;
 
 import com.wit.be.common.exception.BusinessException;
-import com.wit.be.infra.oauth.dto.ApplePublicKeyResponse;
+import com.wit.be.infra.oauth.client.OAuthRestClients;
 import com.wit.be.infra.oauth.dto.OAuthUserInfo;
 import com.wit.be.infra.oauth.exception.OAuthErrorCode;
+import com.wit.be.infra.oauth.jwks.JwksKeyLocator;
+import com.wit.be.infra.oauth.jwks.JwksKeyRing;
 import com.wit.be.infra.properties.AppleOAuthProperties;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtParserBuilder;
 import io.jsonwebtoken.Jwts;
-import java.math.BigInteger;
-import java.security.KeyFactory;
-import java.security.PublicKey;
-import java.security.spec.RSAPublicKeySpec;
-import java.util.Base64;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AppleOAuthValidator implements OAuthValidator {
 
-    private final AppleOAuthProperties appleProperties;
-    private final RestTemplate restTemplate;
+    /** kid → 공개키 (로그인마다 JWKS를 조회하지 않음) */
+    private final JwksKeyRing keyRing;
 
-    @Override
-    public OAuthUserInfo validate(String idToken) {
-        try {
-            // 1. Apple 공개키 가져오기
-            ApplePublicKeyResponse keys =
-                    restTemplate.getForObject(
-                            appleProperties.keysUrl(), ApplePublicKeyResponse.class);
-
-            if (keys == null || keys.keys().isEmpty()) {
-                throw new BusinessException(OAuthErrorCode.INVALID_APPLE_TOKEN);
-            }
-
-            // 2. JWT 헤더에서 kid 추출
-            String kid = getKidFromToken(idToken);
+    /** issuer, audience 검증까지 포함한 파서 (스레드 안전, 재사용) */
+    private final JwtParser jwtParser;
 
-            // 3. 매칭되는 공개키 찾기
-            ApplePublicKeyResponse.AppleKey appleKey = keys.getMatchingKey(kid);
-            if (appleKey == null) {
-                throw new BusinessException(OAuthErrorCode.INVALID_APPLE_TOKEN);
-            }
+    public AppleOAuthValidator(
+            AppleOAuthProperties appleProperties, OAuthRestClients oAuthRestClients) {
+        this.keyRing =
+                new JwksKeyRing(
+                        OAuthRestClients.APPLE,
+                        appleProperties.keysUrl(),
+                        oAuthRestClients.forProvider(OAuthRestClients.APPLE));
 
-            // 4. 공개키 생성
-            PublicKey publicKey = generatePublicKey(appleKey);
+        JwtParserBuilder builder =
+                Jwts.parser()
+                        .keyLocator(new JwksKeyLocator(keyRing))
+                        .requireIssuer(appleProperties.issuer());
 
-            // 5. JWT 검증 및 클레임 추출
-            Claims claims =
-                    Jwts.parser()
-                            .verifyWith(publicKey)
-                            .build()
-                            .parseSignedClaims(idToken)
-                            .getPayload();
+        // audience 검증 (설정된 경우에만)
+        if (appleProperties.audience() != null && !appleProperties.audience().isBlank()) {
+            builder.requireAudience(appleProperties.audience());
+        }
+        this.jwtParser = builder.build();
+    }
 
-            // 6. issuer, audience 검증
-            validateClaims(claims);
+    @Override
+    public OAuthUserInfo validate(String idToken) {
+        try {
+            Claims claims = jwtParser.parseSignedClaims(idToken).getPayload();
 
             return OAuthUserInfo.builder()
                     .providerId(claims.getSubject())
@@ -68,56 +57,8 @@ public class AppleOAuthValidator implements OAuthValidator {
         } catch (BusinessException e) {
             throw e;
         } catch (Exception e) {
-            log.error("Apple token validation failed", e);
-            throw new BusinessException(OAuthErrorCode.INVALID_APPLE_TOKEN);
-        }
-    }
-
-    private String getKidFromToken(String idToken) {
-        String[] parts = idToken.split("\\.");
-        if (parts.length != 3) {
-            throw new BusinessException(OAuthErrorCode.INVALID_APPLE_TOKEN);
-        }
-
-        String headerJson = new String(Base64.getUrlDecoder().decode(parts[0]));
-        // Simple parsing - kid 추출
-        int kidIndex = headerJson.indexOf("\"kid\"");
-        if (kidIndex == -1) {
+            log.warn("Apple token validation failed - reason: {}", e.getMessage());
             throw new BusinessException(OAuthErrorCode.INVALID_APPLE_TOKEN);
         }
-
-        int colonIndex = headerJson.indexOf(":", kidIndex);
-        int startQuote = headerJson.indexOf("\"", colonIndex);
-        int endQuote = headerJson.indexOf("\"", startQuote + 1);
-
-        return headerJson.substring(startQuote + 1, endQuote);
-    }
-
-    private PublicKey generatePublicKey(ApplePublicKeyResponse.AppleKey key) throws Exception {
-        byte[] nBytes = Base64.getUrlDecoder().decode(key.n());
-        byte[] eBytes = Base64.getUrlDecoder().decode(key.e());
-
-        BigInteger n = new BigInteger(1, nBytes);
-        BigInteger e = new BigInteger(1, eBytes);
-
-        RSAPublicKeySpec spec = new RSAPublicKeySpec(n, e);
-        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-
-        return keyFactory.generatePublic(spec);
-    }
-
-    private void validateClaims(Claims claims) {
-        String issuer = claims.getIssuer();
-        if (!appleProperties.issuer().equals(issuer)) {
-            throw new BusinessException(OAuthErrorCode.INVALID_APPLE_TOKEN);
-        }
-
-        // audience 검증 (설정된 경우에만)
-        if (appleProperties.audience() != null && !appleProperties.audience().isBlank()) {
-            String audience = claims.getAudience().stream().findFirst().orElse(null);
-            if (!appleProperties.audience().equals(audience)) {
-                throw new BusinessException(OAuthErrorCode.INVALID_APPLE_TOKEN);
-            }
-        }
     }
 }
@@ -1,19 +1,58 @@
 package com.wit.be.infra.oauth.validator;
 
+import com.wit.be.common.exception.BusinessException;
 import com.wit.be.infra.oauth.client.OAuthHttpClient;
+import com.wit.be.infra.oauth.client.OAuthRestClients;
 import com.wit.be.infra.oauth.dto.GoogleTokenResponse;
 import com.wit.be.infra.oauth.dto.OAuthUserInfo;
-import lombok.RequiredArgsConstructor;
+import com.wit.be.infra.oauth.exception.OAuthErrorCode;
+import com.wit.be.infra.oauth.jwks.OidcIdTokenVerifier;
+import com.wit.be.infra.properties.GoogleOAuthProperties;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class GoogleOAuthValidator implements OAuthValidator {
 
     private final OAuthHttpClient oAuthHttpClient;
 
+    /** local 모드에서만 생성 (remote 모드면 null) */
+    private final OidcIdTokenVerifier idTokenVerifier;
+
+    public GoogleOAuthValidator(
+            OAuthHttpClient oAuthHttpClient,
+            GoogleOAuthProperties googleProperties,
+            OAuthRestClients oAuthRestClients) {
+        this.oAuthHttpClient = oAuthHttpClient;
+        this.idTokenVerifier =
+                googleProperties.oidc().isLocal()
+                        ? new OidcIdTokenVerifier(
+                                OAuthRestClients.GOOGLE,
+                                googleProperties.oidc(),
+                                oAuthRestClients.forProvider(OAuthRestClients.GOOGLE))
+                        : null;
+    }
+
     @Override
     public OAuthUserInfo validate(String idToken) {
+        // local 모드: JWKS로 서명 검증 (JWKS 조회 실패 시에만 원격 검증으로 대체)
+        if (idTokenVerifier != null && OidcIdTokenVerifier.isJws(idToken)) {
+            try {
+                Claims claims = idTokenVerifier.verify(idToken);
+                return OAuthUserInfo.builder()
+                        .providerId(claims.getSubject())
+                        .email(claims.get("email", String.class))
+                        .build();
+            } catch (BusinessException e) {
+                if (e.getErrorCode() != OAuthErrorCode.OAUTH_SERVER_ERROR) {
+                    throw e;
+                }
+                log.warn("Google JWKS unavailable, falling back to tokeninfo");
+            }
+        }
+
         // Google은 ID Token을 tokeninfo 엔드포인트로 검증
         GoogleTokenResponse response = oAuthHttpClient.getGoogleTokenInfo(idToken);
 
@@ -1,20 +1,49 @@
 package com.wit.be.infra.oauth.validator;
 
 import com.wit.be.infra.oauth.client.OAuthHttpClient;
+import com.wit.be.infra.oauth.client.OAuthRestClients;
 import com.wit.be.infra.oauth.dto.KakaoUserResponse;
 import com.wit.be.infra.oauth.dto.OAuthUserInfo;
-import lombok.RequiredArgsConstructor;
+import com.wit.be.infra.oauth.jwks.OidcIdTokenVerifier;
+import com.wit.be.infra.properties.KakaoOAuthProperties;
+import io.jsonwebtoken.Claims;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class KakaoOAuthValidator implements OAuthValidator {
 
     private final OAuthHttpClient oAuthHttpClient;
 
+    /** local 모드에서만 생성 (remote 모드면 null) */
+    private final OidcIdTokenVerifier idTokenVerifier;
+
+    public KakaoOAuthValidator(
+            OAuthHttpClient oAuthHttpClient,
+            KakaoOAuthProperties kakaoProperties,
+            OAuthRestClients oAuthRestClients) {
+        this.oAuthHttpClient = oAuthHttpClient;
+        this.idTokenVerifier =
+                kakaoProperties.oidc().isLocal()
+                        ? new OidcIdTokenVerifier(
+                                OAuthRestClients.KAKAO,
+                                kakaoProperties.oidc(),
+                                oAuthRestClients.forProvider(OAuthRestClients.KAKAO))
+                        : null;
+    }
+
     @Override
     public OAuthUserInfo validate(String token) {
-        // Kakao는 Access Token으로 사용자 정보 조회
+        // local 모드: OIDC ID Token이면 JWKS로 서명 검증 (sub = 카카오 회원번호)
+        // 사용자 정보 API는 ID Token을 받지 않으므로 JWKS 조회 실패 시 원격 대체 없이 실패
+        if (idTokenVerifier != null && OidcIdTokenVerifier.isJws(token)) {
+            Claims claims = idTokenVerifier.verify(token);
+            return OAuthUserInfo.builder()
+                    .providerId(claims.getSubject())
+                    .email(claims.get("email", String.class))
+                    .build();
+        }
+
+        // 불투명 Access Token은 사용자 정보 API로 조회
         KakaoUserResponse response = oAuthHttpClient.getKakaoUserInfo(token);
 
         return OAuthUserInfo.builder()
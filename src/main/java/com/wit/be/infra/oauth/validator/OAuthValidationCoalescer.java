@@ -0,0 +1,207 @@
+package com.wit.be.infra.oauth.validator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.common.util.TokenHasher;
+import com.wit.be.infra.oauth.dto.OAuthUserInfo;
+import com.wit.be.infra.oauth.exception.OAuthErrorCode;
+import com.wit.be.infra.properties.OAuthValidationCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * OAuth 토큰 검증 병합기.
+ *
+ * <p>앱 실행 직후나 재시도 폭주 시 같은 토큰이 몇 초 안에 여러 번 들어오므로, {@link OAuthValidator} 호출을 감싸 다음을
+ * 적용합니다.
+ *
+ * <ul>
+ *   <li>같은 토큰(SHA-256 다이제스트)의 동시 검증은 하나의 공급자 호출로 병합 (single-flight)
+ *   <li>성공한 결과는 짧은 TTL 동안 로컬 캐시에, 설정 시 Redis에도 보관
+ * </ul>
+ *
+ * <p>실패한 검증은 캐시하지 않습니다. 메트릭: {@code cache.gets{cache=oauth.validation}}, {@code
+ * oauth.validation.coalesced}, {@code oauth.validation.redis{result=hit|miss}}, {@code
+ * oauth.validation.provider{provider,outcome=success|failure}} (공급자 검증 지연 시간)
+ */
+@Slf4j
+@Component
+public class OAuthValidationCoalescer {
+
+    private static final String CACHE_NAME = "oauth.validation";
+    private static final String REDIS_KEY_PREFIX = "oauth_validation:";
+    private static final String REDIS_VALUE_SEPARATOR = "\n";
+
+    private final OAuthValidationCacheProperties properties;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<String, OAuthUserInfo> cache;
+    private final ConcurrentMap<String, CompletableFuture<OAuthUserInfo>> inFlight =
+            new ConcurrentHashMap<>();
+
+    private final Counter coalesced;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> providerTimers = new ConcurrentHashMap<>();
+
+    public OAuthValidationCoalescer(
+            OAuthValidationCacheProperties properties,
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumSize(properties.maximumSize())
+                        .expireAfterWrite(properties.ttl())
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        this.coalesced = meterRegistry.counter("oauth.validation.coalesced");
+        this.redisHits = meterRegistry.counter("oauth.validation.redis", "result", "hit");
+        this.redisMisses = meterRegistry.counter("oauth.validation.redis", "result", "miss");
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 토큰을 검증합니다. 같은 토큰의 검증이 진행 중이면 그 결과를 함께 기다립니다.
+     *
+     * @param provider 공급자 이름 (캐시 키 구분용)
+     * @param token 공급자 토큰
+     * @param delegate 실제 검증을 수행할 Validator
+     * @return OAuth 사용자 정보
+     */
+    public OAuthUserInfo validate(String provider, String token, OAuthValidator delegate) {
+        String key = provider + ":" + HexFormat.of().formatHex(TokenHasher.sha256(token));
+
+        if (properties.enabled()) {
+            OAuthUserInfo cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        CompletableFuture<OAuthUserInfo> created = new CompletableFuture<>();
+        CompletableFuture<OAuthUserInfo> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            OAuthUserInfo userInfo = load(provider, key, token, delegate);
+            if (properties.enabled()) {
+                cache.put(key, userInfo);
+            }
+            created.complete(userInfo);
+            return userInfo;
+        } catch (Throwable e) {
+            // Error도 대기 중인 요청에 전달해야 future가 완료되지 않은 채 남지 않음
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private OAuthUserInfo load(
+            String provider, String key, String token, OAuthValidator delegate) {
+        if (properties.enabled() && properties.redisEnabled()) {
+            OAuthUserInfo shared = readFromRedis(key);
+            if (shared != null) {
+                redisHits.increment();
+                return shared;
+            }
+            redisMisses.increment();
+        }
+
+        OAuthUserInfo userInfo = validateTimed(provider, token, delegate);
+
+        if (properties.enabled() && properties.redisEnabled()) {
+            writeToRedis(key, userInfo);
+        }
+        return userInfo;
+    }
+
+    private OAuthUserInfo validateTimed(String provider, String token, OAuthValidator delegate) {
+        long start = System.nanoTime();
+        String outcome = "failure";
+        try {
+            OAuthUserInfo userInfo = delegate.validate(token);
+            outcome = "success";
+            return userInfo;
+        } finally {
+            providerTimer(provider, outcome)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer providerTimer(String provider, String outcome) {
+        return providerTimers.computeIfAbsent(
+                provider + ":" + outcome,
+                name ->
+                        Timer.builder("oauth.validation.provider")
+                                .tag("provider", provider)
+                                .tag("outcome", outcome)
+                                .register(meterRegistry));
+    }
+
+    private OAuthUserInfo await(CompletableFuture<OAuthUserInfo> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(OAuthErrorCode.OAUTH_SERVER_ERROR, e.getCause());
+        }
+    }
+
+    // Redis는 보조 저장소이므로 장애 시 공급자 검증으로 진행
+    private OAuthUserInfo readFromRedis(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + key);
+            if (value == null) {
+                return null;
+            }
+            int separator = value.indexOf(REDIS_VALUE_SEPARATOR);
+            String email = value.substring(separator + 1);
+            return OAuthUserInfo.builder()
+                    .providerId(value.substring(0, separator))
+                    .email(email.isEmpty() ? null : email)
+                    .build();
+        } catch (RuntimeException e) {
+            log.warn("OAuth validation cache read failed - reason: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToRedis(String key, OAuthUserInfo userInfo) {
+        String email = userInfo.email() != null ? userInfo.email() : "";
+        try {
+            redisTemplate
+                    .opsForValue()
+                    .set(
+                            REDIS_KEY_PREFIX + key,
+                            userInfo.providerId() + REDIS_VALUE_SEPARATOR + email,
+                            properties.ttl().toMillis(),
+                            TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            log.warn("OAuth validation cache write failed - reason: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.wit.be.infra.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비즈니스 예외 로그 제한 설정 Properties.
+ *
+ * @param window 에러 코드별 로그 개수를 세는 구간
+ * @param maxPerWindow 구간마다 에러 코드별로 모두 남길 로그 수
+ * @param sampleRate 한도를 넘은 뒤에는 이 개수마다 하나씩만 남김 (0이면 남기지 않음)
+ */
+@ConfigurationProperties(prefix = "error.log")
+public record ErrorLogProperties(
+        @DefaultValue("10s") Duration window,
+        @DefaultValue("10") int maxPerWindow,
+        @DefaultValue("100") int sampleRate) {}
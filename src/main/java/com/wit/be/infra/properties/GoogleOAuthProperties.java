@@ -1,6 +1,8 @@
 package com.wit.be.infra.properties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "oauth.google")
-public record GoogleOAuthProperties(String tokenInfoUrl) {}
+public record GoogleOAuthProperties(
+        String tokenInfoUrl, @DefaultValue OidcVerificationProperties oidc) {}
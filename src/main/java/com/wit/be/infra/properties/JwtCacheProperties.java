@@ -0,0 +1,14 @@
+package com.wit.be.infra.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 검증된 액세스 토큰 캐시 설정 Properties.
+ *
+ * @param enabled 캐시 사용 여부
+ * @param maximumSize 최대 캐시 항목 수
+ */
+@ConfigurationProperties(prefix = "jwt.cache")
+public record JwtCacheProperties(
+        @DefaultValue("true") boolean enabled, @DefaultValue("100000") long maximumSize) {}
@@ -0,0 +1,17 @@
+package com.wit.be.infra.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 액세스 토큰 폐기 목록(denylist) 설정 Properties.
+ *
+ * @param enabled 폐기 목록 사용 여부 (끄면 로그아웃한 액세스 토큰도 만료 전까지 유효)
+ * @param expectedInsertions 액세스 토큰 수명 동안 예상되는 폐기 건수 (블룸 필터 크기 산정용)
+ * @param falsePositiveRate 블룸 필터 오탐률 (오탐된 토큰만 Redis를 조회)
+ */
+@ConfigurationProperties(prefix = "jwt.revocation")
+public record JwtRevocationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long expectedInsertions,
+        @DefaultValue("0.001") double falsePositiveRate) {}
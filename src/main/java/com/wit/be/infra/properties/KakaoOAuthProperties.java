@@ -1,6 +1,8 @@
 package com.wit.be.infra.properties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "oauth.kakao")
-public record KakaoOAuthProperties(String userInfoUrl) {}
+public record KakaoOAuthProperties(
+        String userInfoUrl, @DefaultValue OidcVerificationProperties oidc) {}
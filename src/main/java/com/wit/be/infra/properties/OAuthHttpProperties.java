@@ -0,0 +1,36 @@
+package com.wit.be.infra.properties;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * OAuth 공급자 호출용 HTTP 클라이언트 설정 Properties.
+ *
+ * @param connectTimeout 연결 타임아웃
+ * @param readTimeout 응답 타임아웃
+ * @param providers 공급자별 동시 요청 제한 (kakao, google, apple)
+ */
+@ConfigurationProperties(prefix = "oauth.http")
+public record OAuthHttpProperties(
+        @DefaultValue("5s") Duration connectTimeout,
+        @DefaultValue("5s") Duration readTimeout,
+        @DefaultValue Map<String, Limit> providers) {
+
+    private static final Limit DEFAULT_LIMIT = new Limit(64, Duration.ofMillis(500));
+
+    public Limit limitOf(String provider) {
+        return providers.getOrDefault(provider, DEFAULT_LIMIT);
+    }
+
+    /**
+     * 공급자별 동시 요청 제한.
+     *
+     * @param maxConcurrentRequests 동시에 진행할 수 있는 최대 요청 수
+     * @param acquireTimeout 제한에 걸렸을 때 대기할 최대 시간
+     */
+    public record Limit(
+            @DefaultValue("64") int maxConcurrentRequests,
+            @DefaultValue("500ms") Duration acquireTimeout) {}
+}
@@ -0,0 +1,20 @@
+package com.wit.be.infra.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * OAuth 토큰 검증 결과 캐시 설정 Properties.
+ *
+ * @param enabled 검증 결과 캐시 사용 여부 (동시 요청 병합은 항상 적용)
+ * @param ttl 성공한 검증 결과 보관 시간
+ * @param maximumSize 로컬 캐시 최대 항목 수
+ * @param redisEnabled Redis에도 저장해 다른 서버와 공유할지 여부
+ */
+@ConfigurationProperties(prefix = "oauth.validation-cache")
+public record OAuthValidationCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30s") Duration ttl,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("false") boolean redisEnabled) {}
@@ -0,0 +1,31 @@
+package com.wit.be.infra.properties;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * OIDC ID 토큰 로컬 검증 설정.
+ *
+ * @param mode 검증 방식 (remote: 공급자 API 호출, local: JWKS로 서명 검증)
+ * @param jwksUrl 공급자 JWKS URL
+ * @param issuers 허용 iss 목록
+ * @param audiences 허용 aud 목록 (앱 client id)
+ * @param clockSkew exp 검증 시 허용 오차
+ */
+public record OidcVerificationProperties(
+        @DefaultValue("remote") Mode mode,
+        String jwksUrl,
+        @DefaultValue List<String> issuers,
+        @DefaultValue List<String> audiences,
+        @DefaultValue("60s") Duration clockSkew) {
+
+    public enum Mode {
+        REMOTE,
+        LOCAL
+    }
+
+    public boolean isLocal() {
+        return mode == Mode.LOCAL;
+    }
+}
@@ -0,0 +1,15 @@
+package com.wit.be.infra.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Refresh Token 저장소 설정 Properties.
+ *
+ * @param legacyReadEnabled 다이제스트 전환 이전에 원문으로 저장된 토큰도 인정할지 여부 (전환 기간에만 사용)
+ * @param maxSessionsPerUser 사용자당 최대 세션(기기) 수
+ */
+@ConfigurationProperties(prefix = "jwt.refresh-token-store")
+public record RefreshTokenStoreProperties(
+        @DefaultValue("false") boolean legacyReadEnabled,
+        @DefaultValue("10") int maxSessionsPerUser) {}
@@ -0,0 +1,29 @@
+package com.wit.be.infra.properties;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 읽기 전용 복제본(replica) DataSource 설정 Properties.
+ *
+ * @param enabled 읽기 전용 트랜잭션을 복제본으로 보낼지 여부 (끄면 모든 쿼리가 주 DB로 감)
+ * @param urls 복제본 JDBC URL 목록 (순서대로 돌아가며 사용)
+ * @param username 복제본 계정 (비어 있으면 주 DB 계정)
+ * @param password 복제본 비밀번호 (비어 있으면 주 DB 비밀번호)
+ * @param maximumPoolSize 복제본마다의 커넥션 풀 크기
+ * @param connectionTimeout 복제본 커넥션 대기 시간 (초과하면 주 DB로 전환)
+ * @param healthCheckInterval 복제본 상태 확인 주기 (장애 복제본이 다시 사용되기까지의 최대 지연)
+ * @param readYourWritesWindow 사용자가 쓰기를 커밋한 뒤 그 사용자의 읽기를 주 DB로 보내는 시간 (0이면 사용 안 함)
+ */
+@ConfigurationProperties(prefix = "datasource.replica")
+public record ReplicaDataSourceProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<String> urls,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize,
+        @DefaultValue("1s") Duration connectionTimeout,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("0s") Duration readYourWritesWindow) {}
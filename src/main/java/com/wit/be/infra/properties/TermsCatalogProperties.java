@@ -0,0 +1,18 @@
+package com.wit.be.infra.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 활성 약관 카탈로그 설정 Properties.
+ *
+ * @param refreshInterval DB 재조회 주기 (다른 서버에서 변경된 약관이 반영되는 최대 지연)
+ * @param maxAge 클라이언트 캐시 시간 (Cache-Control max-age)
+ * @param sharedMaxAge CDN 등 공유 캐시 시간 (Cache-Control s-maxage)
+ */
+@ConfigurationProperties(prefix = "terms.catalog")
+public record TermsCatalogProperties(
+        @DefaultValue("30s") Duration refreshInterval,
+        @DefaultValue("1m") Duration maxAge,
+        @DefaultValue("5m") Duration sharedMaxAge) {}
@@ -0,0 +1,28 @@
+package com.wit.be.infra.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 약관 재동의 백필 작업 설정 Properties.
+ *
+ * @param enabled 새 약관 버전 감지와 백필 실행 여부
+ * @param checkInterval 새 약관 버전과 중단된 작업 확인 주기
+ * @param chunkSize 한 번에 조회하고 갱신할 사용자 수
+ * @param pauseBetweenChunks 청크 사이 대기 시간
+ * @param maxPoolUtilization 이 비율 이상 커넥션 풀이 사용 중이면 대기 (0~1)
+ * @param throttleBackoff 커넥션 풀이 바쁠 때 다시 확인하기까지 대기 시간
+ * @param leaseDuration 작업 임대 시간 (서버가 중단되면 이 시간 후 다른 서버가 이어서 진행)
+ * @param progressLogInterval 진행 상황 로그 주기
+ */
+@ConfigurationProperties(prefix = "terms.reconsent")
+public record TermsReconsentProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1m") Duration checkInterval,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("50ms") Duration pauseBetweenChunks,
+        @DefaultValue("0.5") double maxPoolUtilization,
+        @DefaultValue("500ms") Duration throttleBackoff,
+        @DefaultValue("5m") Duration leaseDuration,
+        @DefaultValue("10s") Duration progressLogInterval) {}
@@ -0,0 +1,26 @@
+package com.wit.be.infra.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자 접속 기록과 장기 미접속 사용자 비활성화 설정 Properties.
+ *
+ * @param flushInterval 메모리에 모은 접속 기록을 DB에 반영하는 주기 (접속 시각의 정밀도)
+ * @param flushBatchSize UPDATE 한 번에 반영할 사용자 수
+ * @param sweepEnabled 장기 미접속 사용자 비활성화 여부
+ * @param sweepInterval 비활성화 대상 확인 주기
+ * @param inactiveAfter 마지막 접속 후 이 시간이 지나면 비활성화 (Refresh Token 수명보다 길어야 함)
+ * @param sweepChunkSize 한 번에 조회하고 비활성화할 사용자 수
+ * @param pauseBetweenChunks 청크 사이 대기 시간
+ */
+@ConfigurationProperties(prefix = "user.activity")
+public record UserActivityProperties(
+        @DefaultValue("30s") Duration flushInterval,
+        @DefaultValue("1000") int flushBatchSize,
+        @DefaultValue("true") boolean sweepEnabled,
+        @DefaultValue("1h") Duration sweepInterval,
+        @DefaultValue("180d") Duration inactiveAfter,
+        @DefaultValue("1000") int sweepChunkSize,
+        @DefaultValue("50ms") Duration pauseBetweenChunks) {}
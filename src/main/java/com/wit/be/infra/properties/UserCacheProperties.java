@@ -0,0 +1,22 @@
+package com.wit.be.infra.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자 스냅샷 캐시 설정 Properties.
+ *
+ * @param enabled 캐시 사용 여부 (끄면 매번 DB 조회)
+ * @param maximumSize 로컬 캐시 최대 항목 수
+ * @param localTtl 로컬 캐시 보관 시간 (무효화 메시지를 놓친 경우의 상한)
+ * @param redisEnabled Redis 캐시와 서버 간 무효화 메시지 사용 여부
+ * @param redisTtl Redis 캐시 보관 시간
+ */
+@ConfigurationProperties(prefix = "user.cache")
+public record UserCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("5m") Duration localTtl,
+        @DefaultValue("true") boolean redisEnabled,
+        @DefaultValue("30m") Duration redisTtl) {}
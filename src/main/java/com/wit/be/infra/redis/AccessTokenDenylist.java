@@ -0,0 +1,158 @@
+package com.wit.be.infra.redis;
+
+import com.wit.be.common.util.TokenHasher;
+import com.wit.be.infra.properties.JwtProperties;
+import com.wit.be.infra.properties.JwtRevocationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HexFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃 등으로 폐기된 액세스 토큰 목록.
+ *
+ * <p>폐기된 토큰의 다이제스트를 토큰의 남은 수명만큼 Redis에 보관하고, 각 서버는 이를 로컬 블룸 필터로 복제합니다. 요청마다 블룸
+ * 필터만 확인하므로 폐기되지 않은 대부분의 토큰은 Redis를 조회하지 않으며, 필터에 걸린 경우에만 Redis로 확인합니다.
+ *
+ * <ul>
+ *   <li>다른 서버에서 폐기한 토큰은 pub/sub 메시지로 필터에 추가합니다.
+ *   <li>서버 기동 시에는 Redis에 남아 있는 폐기 목록을 SCAN으로 읽어 필터를 채웁니다.
+ * </ul>
+ *
+ * <p>메트릭: {@code jwt.revocation.filter{result=hit|miss}}, {@code jwt.revocation.rejected}
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist implements MessageListener {
+
+    private static final String KEY_PREFIX = "revoked_token:";
+    private static final ChannelTopic CHANNEL = new ChannelTopic("revoked_tokens");
+    private static final byte[] MARKER = {1};
+    private static final int SCAN_BATCH_SIZE = 1000;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final boolean enabled;
+    private final DigestBloomFilter filter;
+
+    private final Counter filterHits;
+    private final Counter filterMisses;
+    private final Counter rejected;
+
+    public AccessTokenDenylist(
+            RedisTemplate<String, byte[]> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            JwtRevocationProperties properties,
+            JwtProperties jwtProperties,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = properties.enabled();
+        // 세대 주기를 액세스 토큰 수명과 같게 두면 폐기 항목은 토큰이 만료된 뒤에야 필터에서 사라짐
+        this.filter =
+                new DigestBloomFilter(
+                        properties.expectedInsertions(),
+                        properties.falsePositiveRate(),
+                        Duration.ofMillis(jwtProperties.accessTokenExpiration()));
+
+        this.filterHits = meterRegistry.counter("jwt.revocation.filter", "result", "hit");
+        this.filterMisses = meterRegistry.counter("jwt.revocation.filter", "result", "miss");
+        this.rejected = meterRegistry.counter("jwt.revocation.rejected");
+
+        if (enabled) {
+            listenerContainer.addMessageListener(this, CHANNEL);
+        }
+    }
+
+    /**
+     * 액세스 토큰을 폐기합니다.
+     *
+     * @param accessToken 액세스 토큰
+     * @param ttlSeconds 토큰의 남은 수명 (초). 0 이하이면 이미 만료된 토큰이므로 기록하지 않음
+     */
+    public void revoke(String accessToken, long ttlSeconds) {
+        if (!enabled || ttlSeconds <= 0) {
+            return;
+        }
+
+        byte[] digest = TokenHasher.sha256(accessToken);
+        redisTemplate.opsForValue().set(key(digest), MARKER, Duration.ofSeconds(ttlSeconds));
+        filter.put(digest);
+        redisTemplate.convertAndSend(CHANNEL.getTopic(), digest);
+    }
+
+    /**
+     * 폐기된 토큰인지 확인합니다.
+     *
+     * <p>블룸 필터에 없으면 Redis를 조회하지 않습니다. 필터에 걸렸는데 Redis를 조회할 수 없으면 폐기된 것으로 간주합니다.
+     *
+     * @param digest 토큰의 SHA-256 다이제스트
+     * @return 폐기 여부
+     */
+    public boolean isRevoked(byte[] digest) {
+        if (!enabled) {
+            return false;
+        }
+        if (!filter.mightContain(digest)) {
+            filterMisses.increment();
+            return false;
+        }
+        filterHits.increment();
+
+        boolean revoked;
+        try {
+            revoked = Boolean.TRUE.equals(redisTemplate.hasKey(key(digest)));
+        } catch (RuntimeException e) {
+            log.warn("Revocation lookup failed, rejecting token - reason: {}", e.getMessage());
+            revoked = true;
+        }
+        if (revoked) {
+            rejected.increment();
+        }
+        return revoked;
+    }
+
+    /** 다른 서버에서 폐기한 토큰을 필터에 추가합니다. */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        byte[] digest = message.getBody();
+        if (digest != null && digest.length == TokenHasher.DIGEST_LENGTH) {
+            filter.put(digest);
+        }
+    }
+
+    /** 기동 전에 폐기된 토큰을 필터에 채웁니다. 구독을 먼저 시작하므로 그 사이의 폐기도 놓치지 않습니다. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevokedTokens() {
+        if (!enabled) {
+            return;
+        }
+
+        ScanOptions options =
+                ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_BATCH_SIZE).build();
+        int loaded = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                filter.put(HEX.parseHex(cursor.next().substring(KEY_PREFIX.length())));
+                loaded++;
+            }
+            log.info("Revoked access tokens loaded - count: {}", loaded);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load revoked access tokens - reason: {}", e.getMessage());
+        }
+    }
+
+    private static String key(byte[] digest) {
+        return KEY_PREFIX + HEX.formatHex(digest);
+    }
+}
@@ -0,0 +1,90 @@
+package com.wit.be.infra.redis;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 다이제스트 전용 블룸 필터.
+ *
+ * <p>다이제스트 자체가 균일하게 분포하므로 별도 해시 없이 앞 16바이트를 두 개의 해시 값으로 사용합니다 (double hashing).
+ *
+ * <p>항목을 개별 삭제할 수 없으므로 세대 두 개를 번갈아 씁니다. 새 항목은 현재 세대에 넣고, 세대 주기마다 이전 세대를 버립니다.
+ * 세대 주기를 항목의 최대 수명(액세스 토큰 수명) 이상으로 잡으면 항목은 만료 전에 사라지지 않습니다.
+ */
+final class DigestBloomFilter {
+
+    private static final int MIN_DIGEST_LENGTH = 16;
+
+    private final int numBits;
+    private final int numHashes;
+    private final long generationNanos;
+
+    private volatile AtomicLongArray current;
+    private volatile AtomicLongArray previous;
+    private volatile long nextRotationNanos;
+
+    DigestBloomFilter(long expectedInsertions, double falsePositiveRate, Duration generation) {
+        long n = Math.max(expectedInsertions, 1L);
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.numBits = (int) Math.min(Math.max(bits, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * ln2));
+        this.generationNanos = generation.toNanos();
+        this.current = newBits();
+        this.previous = newBits();
+        this.nextRotationNanos = System.nanoTime() + generationNanos;
+    }
+
+    void put(byte[] digest) {
+        rotateIfDue();
+        AtomicLongArray bits = current;
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long h1 = buffer.getLong();
+        long h2 = buffer.getLong();
+        for (int i = 0; i < numHashes; i++) {
+            int index = (int) Math.floorMod(h1 + i * h2, (long) numBits);
+            bits.accumulateAndGet(index >>> 6, 1L << index, (a, b) -> a | b);
+        }
+    }
+
+    boolean mightContain(byte[] digest) {
+        if (digest.length < MIN_DIGEST_LENGTH) {
+            return false;
+        }
+        rotateIfDue();
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long h1 = buffer.getLong();
+        long h2 = buffer.getLong();
+        return contains(current, h1, h2) || contains(previous, h1, h2);
+    }
+
+    private boolean contains(AtomicLongArray bits, long h1, long h2) {
+        for (int i = 0; i < numHashes; i++) {
+            int index = (int) Math.floorMod(h1 + i * h2, (long) numBits);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 세대 주기가 지났으면 이전 세대를 버리고 새 세대를 시작합니다. 별도 스레드 없이 호출 시점에 확인합니다. */
+    private void rotateIfDue() {
+        if (System.nanoTime() - nextRotationNanos < 0) {
+            return;
+        }
+        synchronized (this) {
+            if (System.nanoTime() - nextRotationNanos < 0) {
+                return;
+            }
+            previous = current;
+            current = newBits();
+            nextRotationNanos = System.nanoTime() + generationNanos;
+        }
+    }
+
+    private AtomicLongArray newBits() {
+        return new AtomicLongArray((numBits + Long.SIZE - 1) / Long.SIZE);
+    }
+}
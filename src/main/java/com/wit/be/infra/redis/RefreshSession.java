@@ -0,0 +1,11 @@
+package com.wit.be.infra.redis;
+
+import java.time.Instant;
+
+/**
+ * 사용자의 로그인 세션(기기).
+ *
+ * @param sessionId 세션 ID
+ * @param expiresAt Refresh Token 만료 시각
+ */
+public record RefreshSession(String sessionId, Instant expiresAt) {}
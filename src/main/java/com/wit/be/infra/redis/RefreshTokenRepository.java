@@ -1,71 +1,214 @@
 package com.wit.be.infra.redis;
 
-import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.wit.be.common.util.TokenHasher;
+import com.wit.be.infra.properties.RefreshTokenStoreProperties;
+import com.wit.be.infra.security.jwt.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 세션(기기)별 Refresh Token 저장소.
+ *
+ * <p>사용자마다 해시 하나({@code refresh_sessions:{userId}})를 두고 필드 = 세션 ID, 값 = 토큰의 32바이트 SHA-256
+ * 다이제스트로 저장합니다. 필드마다 만료 시간을 따로 두므로(HPEXPIRE, Redis 7.4+) 한 기기의 로그인이 다른 기기의 세션을
+ * 끊지 않습니다. 비교는 상수 시간으로 수행합니다.
+ *
+ * <p>세션 도입 이전의 사용자당 단일 키({@code refresh_token:{userId}})는 sid 없는 토큰을 교체할 때 한 번 읽고 해시로
+ * 옮깁니다. 원문으로 저장된 항목은 {@code jwt.refresh-token-store.legacy-read-enabled}일 때만 인정합니다.
+ *
+ * <p>메트릭: {@code redis.refresh-token.commands{command}} (명령별 지연 시간)
+ */
 @Repository
-@RequiredArgsConstructor
 public class RefreshTokenRepository {
 
-    private static final String KEY_PREFIX = "refresh_token:";
+    private static final String KEY_PREFIX = "refresh_sessions:";
+    private static final String LEGACY_KEY_PREFIX = "refresh_token:";
+    private static final int DIGEST_LENGTH = 32;
+    private static final byte[] TRUE = "1".getBytes(UTF_8);
+    private static final byte[] FALSE = "0".getBytes(UTF_8);
+    private static final byte[] EMPTY = new byte[0];
+
+    /** 저장과 필드 만료 설정, 세션 수 제한을 한 번의 왕복으로 수행 */
+    private static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/save-refresh-session.lua"), Long.class);
+
+    /** 비교와 교체를 한 번의 왕복으로 원자적으로 수행하는 스크립트 (서버에서 EVALSHA로 캐시) */
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rotate-refresh-token.lua"), Long.class);
+
+    /** 세션 ID와 만료 시각을 한 번의 왕복으로 조회 */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LIST_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/list-refresh-sessions.lua"), List.class);
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final RefreshTokenStoreProperties properties;
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final Timer saveTimer;
+    private final Timer rotateTimer;
+    private final Timer listTimer;
+    private final Timer deleteSessionTimer;
+    private final Timer deleteAllTimer;
+    private final Timer matchesTimer;
+
+    public RefreshTokenRepository(
+            RedisTemplate<String, byte[]> binaryRedisTemplate,
+            RefreshTokenStoreProperties properties,
+            MeterRegistry meterRegistry) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.properties = properties;
+        this.saveTimer = commandTimer(meterRegistry, "save");
+        this.rotateTimer = commandTimer(meterRegistry, "rotate");
+        this.listTimer = commandTimer(meterRegistry, "list");
+        this.deleteSessionTimer = commandTimer(meterRegistry, "delete_session");
+        this.deleteAllTimer = commandTimer(meterRegistry, "delete_all");
+        this.matchesTimer = commandTimer(meterRegistry, "matches");
+    }
 
     /**
-     * Refresh Token 저장
+     * 세션의 Refresh Token 저장 (다이제스트만 저장)
      *
      * @param userId 사용자 ID
+     * @param sessionId 세션 ID
      * @param refreshToken Refresh Token
      * @param expirationMs 만료 시간 (밀리초)
      */
-    public void save(Long userId, String refreshToken, long expirationMs) {
-        String key = KEY_PREFIX + userId;
-        redisTemplate.opsForValue().set(key, refreshToken, expirationMs, TimeUnit.MILLISECONDS);
+    public void save(Long userId, String sessionId, String refreshToken, long expirationMs) {
+        byte[] digest = TokenHasher.sha256(refreshToken);
+        saveTimer.record(
+                () ->
+                        binaryRedisTemplate.execute(
+                                SAVE_SCRIPT,
+                                List.of(KEY_PREFIX + userId),
+                                sessionId.getBytes(UTF_8),
+                                digest,
+                                String.valueOf(expirationMs).getBytes(UTF_8),
+                                String.valueOf(properties.maxSessionsPerUser()).getBytes(UTF_8)));
     }
 
     /**
-     * Refresh Token 조회
+     * 세션에 저장된 Refresh Token이 제시된 값과 같을 때만 새 토큰으로 교체하고 TTL을 재설정합니다.
+     *
+     * <p>같은 Refresh Token으로 동시에 요청해도 한 요청만 성공합니다.
      *
      * @param userId 사용자 ID
-     * @return Refresh Token (없으면 null)
+     * @param sessionId 세션 ID (sid 없는 이전 토큰이면 null)
+     * @param presentedToken 클라이언트가 제시한 Refresh Token
+     * @param newToken 새로 발급한 Refresh Token
+     * @param expirationMs 새 토큰 만료 시간 (밀리초)
+     * @return 교체 성공 여부
      */
-    public String findByUserId(Long userId) {
-        String key = KEY_PREFIX + userId;
-        return redisTemplate.opsForValue().get(key);
+    public boolean rotate(
+            Long userId,
+            String sessionId,
+            String presentedToken,
+            String newToken,
+            long expirationMs) {
+        boolean legacySession = sessionId == null;
+        boolean legacyRead = legacySession && properties.legacyReadEnabled();
+        byte[] field = (legacySession ? JwtUtil.DEFAULT_SESSION_ID : sessionId).getBytes(UTF_8);
+        byte[] presentedDigest = TokenHasher.sha256(presentedToken);
+        byte[] newDigest = TokenHasher.sha256(newToken);
+        Long result =
+                rotateTimer.record(
+                        () ->
+                                binaryRedisTemplate.execute(
+                                        ROTATE_SCRIPT,
+                                        List.of(KEY_PREFIX + userId, LEGACY_KEY_PREFIX + userId),
+                                        field,
+                                        presentedDigest,
+                                        newDigest,
+                                        String.valueOf(expirationMs).getBytes(UTF_8),
+                                        legacySession ? TRUE : FALSE,
+                                        legacyRead ? presentedToken.getBytes(UTF_8) : EMPTY));
+        return result != null && result == 1L;
     }
 
     /**
-     * Refresh Token 삭제 (로그아웃)
+     * 사용자의 세션 목록 조회
      *
      * @param userId 사용자 ID
+     * @return 세션 목록
      */
-    public void deleteByUserId(Long userId) {
-        String key = KEY_PREFIX + userId;
-        redisTemplate.delete(key);
+    public List<RefreshSession> findSessions(Long userId) {
+        List<?> raw =
+                listTimer.record(
+                        () ->
+                                binaryRedisTemplate.execute(
+                                        LIST_SCRIPT, List.of(KEY_PREFIX + userId)));
+        if (raw == null) {
+            return List.of();
+        }
+
+        List<RefreshSession> sessions = new ArrayList<>(raw.size() / 2);
+        for (int i = 0; i + 1 < raw.size(); i += 2) {
+            String sessionId = new String((byte[]) raw.get(i), UTF_8);
+            long expiresAt = (Long) raw.get(i + 1);
+            sessions.add(
+                    new RefreshSession(
+                            sessionId, expiresAt > 0 ? Instant.ofEpochMilli(expiresAt) : null));
+        }
+        return sessions;
     }
 
     /**
-     * Refresh Token 존재 여부 확인
+     * 세션 하나의 Refresh Token 삭제 (해당 기기 로그아웃)
      *
      * @param userId 사용자 ID
-     * @return 존재 여부
+     * @param sessionId 세션 ID
      */
-    public boolean existsByUserId(Long userId) {
-        String key = KEY_PREFIX + userId;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    public void deleteSession(Long userId, String sessionId) {
+        deleteSessionTimer.record(
+                () -> {
+                    binaryRedisTemplate.opsForHash().delete(KEY_PREFIX + userId, sessionId);
+                    if (JwtUtil.DEFAULT_SESSION_ID.equals(sessionId)) {
+                        binaryRedisTemplate.unlink(LEGACY_KEY_PREFIX + userId);
+                    }
+                });
     }
 
     /**
-     * 저장된 Refresh Token과 일치하는지 확인
+     * 모든 세션의 Refresh Token 삭제 (전체 기기 로그아웃)
      *
      * @param userId 사용자 ID
+     */
+    public void deleteAllSessions(Long userId) {
+        deleteAllTimer.record(
+                () ->
+                        binaryRedisTemplate.unlink(
+                                List.of(KEY_PREFIX + userId, LEGACY_KEY_PREFIX + userId)));
+    }
+
+    /**
+     * 세션에 저장된 Refresh Token과 일치하는지 확인 (상수 시간 비교)
+     *
+     * @param userId 사용자 ID
+     * @param sessionId 세션 ID
      * @param refreshToken 비교할 Refresh Token
      * @return 일치 여부
      */
-    public boolean matches(Long userId, String refreshToken) {
-        String storedToken = findByUserId(userId);
-        return storedToken != null && storedToken.equals(refreshToken);
+    public boolean matches(Long userId, String sessionId, String refreshToken) {
+        Object stored =
+                matchesTimer.record(
+                        () -> binaryRedisTemplate.opsForHash().get(KEY_PREFIX + userId, sessionId));
+        return stored instanceof byte[] digest
+                && digest.length == DIGEST_LENGTH
+                && MessageDigest.isEqual(digest, TokenHasher.sha256(refreshToken));
+    }
+
+    private static Timer commandTimer(MeterRegistry meterRegistry, String command) {
+        return Timer.builder("redis.refresh-token.commands")
+                .tag("command", command)
+                .register(meterRegistry);
     }
 }
@@ -2,6 +2,8 @@ package com.wit.be.infra.security.config;
 
 import com.wit.be.infra.security.filter.JwtExceptionFilter;
 import com.wit.be.infra.security.filter.JwtFilter;
+import com.wit.be.infra.security.resolver.CurrentAccessTokenResolver;
+import com.wit.be.infra.security.resolver.CurrentSessionIdResolver;
 import com.wit.be.infra.security.resolver.CurrentUserIdResolver;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +27,8 @@ public class SecurityConfig implements WebMvcConfigurer {
     private final JwtFilter jwtFilter;
     private final JwtExceptionFilter jwtExceptionFilter;
     private final CurrentUserIdResolver currentUserIdResolver;
+    private final CurrentSessionIdResolver currentSessionIdResolver;
+    private final CurrentAccessTokenResolver currentAccessTokenResolver;
     private final CorsConfigurationSource corsConfigurationSource;
 
     private static final String[] WHITE_LIST = {
@@ -66,5 +70,7 @@ public class SecurityConfig implements WebMvcConfigurer {
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentUserIdResolver);
+        resolvers.add(currentSessionIdResolver);
+        resolvers.add(currentAccessTokenResolver);
     }
 }
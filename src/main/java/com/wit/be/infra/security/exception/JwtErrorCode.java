@@ -11,7 +11,9 @@ public enum JwtErrorCode implements ErrorCode {
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "JWT__001", "유효하지 않은 토큰입니다."),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "JWT__002", "만료된 토큰입니다."),
     UNSUPPORTED_TOKEN(HttpStatus.UNAUTHORIZED, "JWT__003", "지원하지 않는 토큰 형식입니다."),
-    EMPTY_TOKEN(HttpStatus.UNAUTHORIZED, "JWT__004", "토큰이 비어있습니다.");
+    EMPTY_TOKEN(HttpStatus.UNAUTHORIZED, "JWT__004", "토큰이 비어있습니다."),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "JWT__005", "유효하지 않은 Refresh Token입니다."),
+    REVOKED_TOKEN(HttpStatus.UNAUTHORIZED, "JWT__006", "로그아웃된 토큰입니다.");
 
     private final HttpStatus httpStatus;
     private final String code;
@@ -1,28 +1,25 @@
 package com.wit.be.infra.security.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wit.be.common.exception.BusinessException;
-import com.wit.be.common.exception.code.ErrorCode;
-import com.wit.be.common.exception.dto.ErrorResponse;
-import com.wit.be.common.response.BaseResponse;
+import com.wit.be.common.exception.handler.ErrorReporter;
+import com.wit.be.common.exception.handler.ErrorResponseRenderer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtExceptionFilter extends OncePerRequestFilter {
 
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseRenderer errorResponseRenderer;
+    private final ErrorReporter errorReporter;
 
+    // 만료 토큰이 가장 흔한 에러이므로 로그는 코드별로 제한하고 본문은 미리 직렬화한 바이트로 응답
     @Override
     protected void doFilterInternal(
             HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -31,21 +28,8 @@ public class JwtExceptionFilter extends OncePerRequestFilter {
         try {
             filterChain.doFilter(request, response);
         } catch (BusinessException e) {
-            log.warn("JWT Exception: {}", e.getMessage());
-            setErrorResponse(response, e.getErrorCode());
+            errorReporter.report(e);
+            errorResponseRenderer.write(request, response, e.getErrorCode());
         }
     }
-
-    private void setErrorResponse(HttpServletResponse response, ErrorCode errorCode)
-            throws IOException {
-        response.setStatus(errorCode.getHttpStatus().value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
-        ErrorResponse errorResponse = ErrorResponse.of(errorCode.getCode(), errorCode.getMessage());
-        BaseResponse<ErrorResponse> baseResponse =
-                BaseResponse.fail(errorCode.getHttpStatus().value(), errorResponse);
-
-        response.getWriter().write(objectMapper.writeValueAsString(baseResponse));
-    }
 }
@@ -1,6 +1,7 @@
 package com.wit.be.infra.security.filter;
 
 import com.wit.be.infra.security.jwt.JwtUtil;
+import com.wit.be.infra.security.jwt.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +19,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(
@@ -27,8 +29,7 @@ public class JwtFilter extends OncePerRequestFilter {
         String token = jwtUtil.getAccessTokenFromHeader(request);
 
         if (StringUtils.hasText(token)) {
-            jwtUtil.validateToken(token);
-            Authentication authentication = jwtUtil.getAuthentication(token);
+            Authentication authentication = verifiedTokenCache.authenticate(token);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
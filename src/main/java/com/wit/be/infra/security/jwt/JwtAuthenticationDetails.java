@@ -0,0 +1,8 @@
+package com.wit.be.infra.security.jwt;
+
+/**
+ * 액세스 토큰으로 만든 Authentication의 부가 정보.
+ *
+ * @param sessionId 토큰이 속한 세션(기기) ID
+ */
+public record JwtAuthenticationDetails(String sessionId) {}
@@ -9,12 +9,15 @@ import com.wit.be.infra.security.exception.JwtErrorCode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
@@ -33,48 +36,98 @@ public class JwtUtil {
     private static final String TOKEN_PREFIX = "Bearer ";
     private static final String TYPE = "type";
     private static final String AUTHORITIES = "authorities";
+    private static final String SESSION_ID = "sid";
+    private static final String ACCESS = "access";
+    private static final String REFRESH = "refresh";
     private static final long MS_TO_SEC = 1000L;
 
+    /** sid 클레임이 없는 이전 토큰의 세션 ID */
+    public static final String DEFAULT_SESSION_ID = "default";
+
+    /**
+     * authorities 클레임 문자열 → 권한 목록 캐시.
+     *
+     * <p>클레임 값은 "ROLE_USER", "ROLE_ADMIN" 등 소수의 조합뿐이므로 요청마다 {@link
+     * SimpleGrantedAuthority}를 새로 만들지 않고 불변 리스트를 재사용합니다.
+     */
+    private static final Map<String, List<GrantedAuthority>> AUTHORITIES_CACHE =
+            new ConcurrentHashMap<>();
+
     private final JwtProperties jwtProperties;
 
     private SecretKey secretKey;
 
+    /** 서명 검증용 파서 (불변 객체이므로 스레드 간 공유) */
+    private JwtParser jwtParser;
+
     @PostConstruct
     protected void initSecretKey() {
         this.secretKey = hmacShaKeyFor(jwtProperties.secret().getBytes(UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     /** 액세스 토큰 생성 */
-    public String generateAccessToken(Long userId, List<String> roles) {
-        return generateToken(userId, roles, jwtProperties.accessTokenExpiration(), "access");
+    public String generateAccessToken(Long userId, List<String> roles, String sessionId) {
+        return generateToken(
+                userId, roles, sessionId, jwtProperties.accessTokenExpiration(), ACCESS);
     }
 
     /** 리프레시 토큰 생성 */
-    public String generateRefreshToken(Long userId, List<String> roles) {
-        return generateToken(userId, roles, jwtProperties.refreshTokenExpiration(), "refresh");
+    public String generateRefreshToken(Long userId, List<String> roles, String sessionId) {
+        return generateToken(
+                userId, roles, sessionId, jwtProperties.refreshTokenExpiration(), REFRESH);
     }
 
-    /** 토큰 유효성 검증 */
-    public void validateToken(String token) {
-        try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-        } catch (ExpiredJwtException e) {
-            throw new BusinessException(JwtErrorCode.EXPIRED_TOKEN);
-        } catch (JwtException | IllegalArgumentException e) {
-            throw new BusinessException(JwtErrorCode.INVALID_TOKEN);
+    /**
+     * 리프레시 토큰을 검증하고 사용자 ID, 세션 ID, 권한을 반환합니다.
+     *
+     * <p>권한은 토큰 클레임에서 가져오므로 DB를 조회하지 않습니다.
+     *
+     * @throws BusinessException 만료되었거나, 유효하지 않거나, 리프레시 토큰이 아닌 경우
+     */
+    public VerifiedRefreshToken verifyRefreshToken(String refreshToken) {
+        Claims claims = getClaims(refreshToken);
+        if (!REFRESH.equals(claims.get(TYPE, String.class))) {
+            throw new BusinessException(JwtErrorCode.INVALID_REFRESH_TOKEN);
         }
+
+        List<String> roles =
+                getAuthorities(claims).stream().map(GrantedAuthority::getAuthority).toList();
+        return new VerifiedRefreshToken(
+                Long.parseLong(claims.getSubject()), claims.get(SESSION_ID, String.class), roles);
     }
 
-    /** 액세스 토큰에서 Authentication 객체 생성 */
-    public Authentication getAuthentication(String accessToken) {
-        Claims claims = getClaims(accessToken);
+    /**
+     * 액세스 토큰을 검증하고 Authentication 객체를 생성합니다.
+     *
+     * <p>서명 검증과 클레임 파싱을 한 번만 수행하므로 {@link #validateToken(String)} 후 {@link
+     * #getAuthentication(String)}을 호출하는 것보다 저렴합니다.
+     */
+    public Authentication authenticate(String accessToken) {
+        return toAuthentication(getAccessClaims(accessToken));
+    }
 
-        String subject = claims.getSubject();
-        List<GrantedAuthority> authorities = getAuthorities(claims);
+    /**
+     * 액세스 토큰을 검증하고 사용자 ID, Authentication, 만료 시각을 함께 반환합니다.
+     *
+     * <p>{@link VerifiedTokenCache}가 만료 시각에 맞춰 캐시 항목을 제거할 수 있도록 만료 시각을 포함합니다.
+     */
+    public VerifiedAccessToken verify(String accessToken) {
+        Claims claims = getAccessClaims(accessToken);
+        return new VerifiedAccessToken(
+                Long.parseLong(claims.getSubject()),
+                toAuthentication(claims),
+                claims.getExpiration().getTime());
+    }
 
-        User principal = new User(subject, "", authorities);
+    /** 토큰 유효성 검증 */
+    public void validateToken(String token) {
+        getClaims(token);
+    }
 
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    /** 액세스 토큰에서 Authentication 객체 생성 */
+    public Authentication getAuthentication(String accessToken) {
+        return toAuthentication(getAccessClaims(accessToken));
     }
 
     /** 토큰에서 사용자 ID 추출 */
@@ -119,15 +172,19 @@ public class JwtUtil {
         return jwtProperties.refreshTokenExpiration();
     }
 
-    private String generateToken(Long userId, List<String> roles, Long expiration, String type) {
+    private String generateToken(
+            Long userId, List<String> roles, String sessionId, Long expiration, String type) {
         String authorities = String.join(",", roles);
 
         Date issuedTime = new Date(System.currentTimeMillis());
         Date expiredTime = new Date(issuedTime.getTime() + expiration);
 
         return Jwts.builder()
+                // 같은 시각에 발급한 리프레시 토큰도 서로 구분되도록 jti 부여 (교체 시 비교 대상)
+                .id(REFRESH.equals(type) ? UUID.randomUUID().toString() : null)
                 .subject(String.valueOf(userId))
                 .claim(TYPE, type)
+                .claim(SESSION_ID, sessionId)
                 .claim(AUTHORITIES, authorities)
                 .issuer(jwtProperties.issuer())
                 .issuedAt(issuedTime)
@@ -136,13 +193,23 @@ public class JwtUtil {
                 .compact();
     }
 
+    private Authentication toAuthentication(Claims claims) {
+        String subject = claims.getSubject();
+        List<GrantedAuthority> authorities = getAuthorities(claims);
+
+        User principal = new User(subject, "", authorities);
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        String sessionId = claims.get(SESSION_ID, String.class);
+        authentication.setDetails(
+                new JwtAuthenticationDetails(sessionId != null ? sessionId : DEFAULT_SESSION_ID));
+        return authentication;
+    }
+
     private Claims getClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             throw new BusinessException(JwtErrorCode.EXPIRED_TOKEN);
         } catch (JwtException | IllegalArgumentException e) {
@@ -150,13 +217,18 @@ public class JwtUtil {
         }
     }
 
+    /** 리프레시 토큰은 로그아웃 시 폐기 목록에 오르지 않으므로 Bearer 인증에 쓰이지 않도록 타입을 확인 */
+    private Claims getAccessClaims(String token) {
+        Claims claims = getClaims(token);
+        if (!ACCESS.equals(claims.get(TYPE, String.class))) {
+            throw new BusinessException(JwtErrorCode.INVALID_TOKEN);
+        }
+        return claims;
+    }
+
     private Claims getClaimsAllowExpired(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         } catch (JwtException | IllegalArgumentException e) {
@@ -171,8 +243,12 @@ public class JwtUtil {
             return List.of();
         }
 
+        return AUTHORITIES_CACHE.computeIfAbsent(authoritiesClaim, JwtUtil::parseAuthorities);
+    }
+
+    private static List<GrantedAuthority> parseAuthorities(String authoritiesClaim) {
         return Stream.of(authoritiesClaim.split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
     }
 }
@@ -0,0 +1,13 @@
+package com.wit.be.infra.security.jwt;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * 서명 검증을 마친 액세스 토큰.
+ *
+ * @param userId 사용자 ID (subject)
+ * @param authentication 토큰으로 만든 Authentication
+ * @param expiresAtMillis 토큰 만료 시각 (epoch 밀리초)
+ */
+public record VerifiedAccessToken(
+        Long userId, Authentication authentication, long expiresAtMillis) {}
@@ -0,0 +1,12 @@
+package com.wit.be.infra.security.jwt;
+
+import java.util.List;
+
+/**
+ * 서명 검증을 마친 리프레시 토큰.
+ *
+ * @param userId 사용자 ID (subject)
+ * @param sessionId 세션(기기) ID (sid 클레임이 없는 이전 토큰이면 null)
+ * @param roles 토큰에 담긴 권한 목록
+ */
+public record VerifiedRefreshToken(Long userId, String sessionId, List<String> roles) {}
@@ -0,0 +1,197 @@
+package com.wit.be.infra.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.common.util.TokenHasher;
+import com.wit.be.infra.properties.JwtCacheProperties;
+import com.wit.be.infra.redis.AccessTokenDenylist;
+import com.wit.be.infra.security.exception.JwtErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 마친 액세스 토큰 캐시.
+ *
+ * <p>같은 액세스 토큰이 만료 전까지 반복해서 들어오므로, 토큰의 SHA-256 다이제스트를 키로 이미 만든 {@link
+ * Authentication}을 재사용합니다. 각 항목은 토큰의 exp 시각에 만료되며, 로그아웃 시 사용자 단위로 제거됩니다.
+ *
+ * <p>캐시 여부와 관계없이 같은 다이제스트로 {@link AccessTokenDenylist}를 먼저 확인하므로, 다른 서버에서 로그아웃한 토큰도
+ * 거부됩니다.
+ *
+ * <p>메트릭: {@code cache.gets{cache=jwt.verified-tokens,result=hit|miss}}, {@code cache.evictions},
+ * {@code jwt.validation{outcome=cached|verified|expired|invalid|revoked}}
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private final JwtUtil jwtUtil;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final boolean enabled;
+    private final Cache<TokenKey, VerifiedAccessToken> cache;
+
+    private final Counter cachedOutcome;
+    private final Counter verifiedOutcome;
+    private final Counter expiredOutcome;
+    private final Counter invalidOutcome;
+    private final Counter revokedOutcome;
+
+    /** 사용자 ID → 캐시 키 목록 (로그아웃 시 사용자 단위 제거용) */
+    private final Map<Long, Set<TokenKey>> keysByUserId = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(
+            JwtUtil jwtUtil,
+            AccessTokenDenylist accessTokenDenylist,
+            JwtCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.enabled = properties.enabled();
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumSize(properties.maximumSize())
+                        .expireAfter(new TokenExpiry())
+                        .removalListener(this::onRemoval)
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        this.cachedOutcome = meterRegistry.counter("jwt.validation", "outcome", "cached");
+        this.verifiedOutcome = meterRegistry.counter("jwt.validation", "outcome", "verified");
+        this.expiredOutcome = meterRegistry.counter("jwt.validation", "outcome", "expired");
+        this.invalidOutcome = meterRegistry.counter("jwt.validation", "outcome", "invalid");
+        this.revokedOutcome = meterRegistry.counter("jwt.validation", "outcome", "revoked");
+    }
+
+    /**
+     * 액세스 토큰을 검증하고 Authentication을 반환합니다.
+     *
+     * <p>캐시에 있으면 서명 검증과 클레임 파싱을 생략합니다.
+     *
+     * @param accessToken 액세스 토큰
+     * @return Authentication
+     * @throws BusinessException 토큰이 만료되었거나, 유효하지 않거나, 폐기된 경우
+     */
+    public Authentication authenticate(String accessToken) {
+        byte[] digest = TokenHasher.sha256(accessToken);
+        if (accessTokenDenylist.isRevoked(digest)) {
+            revokedOutcome.increment();
+            throw new BusinessException(JwtErrorCode.REVOKED_TOKEN);
+        }
+
+        if (!enabled) {
+            Authentication authentication = countOutcome(() -> jwtUtil.authenticate(accessToken));
+            verifiedOutcome.increment();
+            return authentication;
+        }
+
+        TokenKey key = TokenKey.of(digest);
+        VerifiedAccessToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            cachedOutcome.increment();
+            return cached.authentication();
+        }
+
+        VerifiedAccessToken verified = countOutcome(() -> jwtUtil.verify(accessToken));
+        verifiedOutcome.increment();
+        keysByUserId.compute(
+                verified.userId(),
+                (userId, keys) -> {
+                    Set<TokenKey> userKeys = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                    userKeys.add(key);
+                    return userKeys;
+                });
+        cache.put(key, verified);
+        return verified.authentication();
+    }
+
+    /**
+     * 사용자의 캐시된 토큰을 모두 제거합니다 (로그아웃).
+     *
+     * @param userId 사용자 ID
+     */
+    public void evictByUserId(Long userId) {
+        Set<TokenKey> keys = keysByUserId.remove(userId);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    private <T> T countOutcome(Supplier<T> verification) {
+        try {
+            return verification.get();
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == JwtErrorCode.EXPIRED_TOKEN) {
+                expiredOutcome.increment();
+            } else {
+                invalidOutcome.increment();
+            }
+            throw e;
+        }
+    }
+
+    private void onRemoval(TokenKey key, VerifiedAccessToken value, RemovalCause cause) {
+        // 같은 키로 다시 저장된 경우(REPLACED)에는 인덱스를 유지
+        if (key == null || value == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+        keysByUserId.computeIfPresent(
+                value.userId(),
+                (userId, keys) -> {
+                    keys.remove(key);
+                    return keys.isEmpty() ? null : keys;
+                });
+    }
+
+    /** 토큰의 SHA-256 다이제스트 (32바이트 = long 4개) */
+    private record TokenKey(long h0, long h1, long h2, long h3) {
+
+        static TokenKey of(byte[] digest) {
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new TokenKey(
+                    buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+    }
+
+    /** 토큰의 exp 시각에 항목을 만료시킵니다. */
+    private static final class TokenExpiry implements Expiry<TokenKey, VerifiedAccessToken> {
+
+        @Override
+        public long expireAfterCreate(
+                TokenKey key, VerifiedAccessToken value, long currentTimeNanos) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                TokenKey key,
+                VerifiedAccessToken value,
+                long currentTimeNanos,
+                long currentDurationNanos) {
+            return expireAfterCreate(key, value, currentTimeNanos);
+        }
+
+        @Override
+        public long expireAfterRead(
+                TokenKey key,
+                VerifiedAccessToken value,
+                long currentTimeNanos,
+                long currentDurationNanos) {
+            return currentDurationNanos;
+        }
+    }
+}
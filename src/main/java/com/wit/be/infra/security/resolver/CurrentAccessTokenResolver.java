@@ -0,0 +1,45 @@
+package com.wit.be.infra.security.resolver;
+
+import com.wit.be.common.annotation.CurrentAccessToken;
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.infra.security.exception.JwtErrorCode;
+import com.wit.be.infra.security.jwt.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+@RequiredArgsConstructor
+public class CurrentAccessTokenResolver implements HandlerMethodArgumentResolver {
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentAccessToken.class)
+                && parameter.getParameterType().equals(String.class);
+    }
+
+    @Override
+    public Object resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory) {
+
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        String accessToken = request != null ? jwtUtil.getAccessTokenFromHeader(request) : null;
+
+        if (!StringUtils.hasText(accessToken)) {
+            throw new BusinessException(JwtErrorCode.EMPTY_TOKEN);
+        }
+
+        return accessToken;
+    }
+}
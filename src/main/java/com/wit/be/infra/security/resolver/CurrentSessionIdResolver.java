@@ -0,0 +1,41 @@
+package com.wit.be.infra.security.resolver;
+
+import com.wit.be.common.annotation.CurrentSessionId;
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.common.exception.code.GlobalErrorCode;
+import com.wit.be.infra.security.jwt.JwtAuthenticationDetails;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+public class CurrentSessionIdResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentSessionId.class)
+                && parameter.getParameterType().equals(String.class);
+    }
+
+    @Override
+    public Object resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory) {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null
+                || !(authentication.getDetails() instanceof JwtAuthenticationDetails details)) {
+            throw new BusinessException(GlobalErrorCode.UNAUTHORIZED);
+        }
+
+        return details.sessionId();
+    }
+}
@@ -1,21 +1,25 @@
 package com.wit.be.terms.api;
 
 import com.wit.be.common.annotation.CurrentUserId;
-import com.wit.be.terms.application.TermsQueryService;
+import com.wit.be.common.response.ResponseFormat;
+import com.wit.be.infra.properties.TermsCatalogProperties;
+import com.wit.be.terms.application.TermsCatalog;
+import com.wit.be.terms.application.TermsCatalogSnapshot;
 import com.wit.be.terms.application.TermsService;
 import com.wit.be.terms.dto.request.TermsAgreementRequest;
 import com.wit.be.terms.dto.response.TermsAgreementResponse;
-import com.wit.be.terms.dto.response.TermsResponse;
-import com.wit.be.user.application.UserQueryService;
-import com.wit.be.user.domain.User;
+import com.wit.be.user.domain.UserStatus;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -26,20 +30,40 @@ import org.springframework.web.bind.annotation.RestController;
 public class TermsController {
 
     private final TermsService termsService;
-    private final TermsQueryService termsQueryService;
-    private final UserQueryService userQueryService;
+    private final TermsCatalog termsCatalog;
+    private final TermsCatalogProperties catalogProperties;
 
+    /**
+     * 미리 직렬화한 본문에 응답 시각만 채워 강한 ETag와 함께 응답합니다. If-None-Match가 일치하면 304를 응답합니다.
+     *
+     * <p>CBOR를 요청하면 미리 CBOR로 직렬화한 본문을 응답하며, 형식마다 다른 ETag를 사용합니다.
+     */
     @GetMapping("/active")
-    public ResponseEntity<List<TermsResponse>> getActiveTerms() {
-        List<TermsResponse> terms = termsQueryService.getActiveTerms();
-        return ResponseEntity.ok(terms);
+    public ResponseEntity<byte[]> getActiveTerms(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        TermsCatalogSnapshot catalog = termsCatalog.snapshot();
+        ResponseEntity.BodyBuilder response =
+                ResponseEntity.ok()
+                        .cacheControl(
+                                CacheControl.maxAge(catalogProperties.maxAge())
+                                        .sMaxAge(catalogProperties.sharedMaxAge())
+                                        .cachePublic())
+                        .varyBy(HttpHeaders.ACCEPT);
+
+        if (ResponseFormat.negotiate(accept) == ResponseFormat.CBOR) {
+            return response.eTag(catalog.cborEtag())
+                    .contentType(MediaType.APPLICATION_CBOR)
+                    .body(catalog.cborBody().render());
+        }
+        return response.eTag(catalog.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(catalog.body().render());
     }
 
     @PostMapping("/agree")
     public ResponseEntity<TermsAgreementResponse> agreeToTerms(
             @CurrentUserId Long userId, @Valid @RequestBody TermsAgreementRequest request) {
-        termsService.agreeToTerms(userId, request);
-        User user = userQueryService.findById(userId);
-        return ResponseEntity.ok(new TermsAgreementResponse(user.getStatus()));
+        UserStatus status = termsService.agreeToTerms(userId, request);
+        return ResponseEntity.ok(new TermsAgreementResponse(status));
     }
 }
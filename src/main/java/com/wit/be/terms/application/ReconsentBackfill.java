@@ -0,0 +1,345 @@
+package com.wit.be.terms.application;
+
+import com.wit.be.infra.properties.TermsReconsentProperties;
+import com.wit.be.terms.domain.ReconsentJob;
+import com.wit.be.terms.domain.ReconsentJobStatus;
+import com.wit.be.terms.domain.Terms;
+import com.wit.be.terms.domain.TermsChangedEvent;
+import com.wit.be.terms.repository.ReconsentJobRepository;
+import com.wit.be.terms.repository.TermsRepository;
+import com.wit.be.user.application.UserCache;
+import com.wit.be.user.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 새 약관 버전이 게시되면 기존 사용자를 재동의 대기 상태로 되돌리는 백필 작업.
+ *
+ * <ul>
+ *   <li>이전 버전이 비활성화되고 같은 유형의 새 버전이 활성화되면 {@link ReconsentJob}을 만듭니다.
+ *   <li>사용자를 ID 순 키셋 페이지네이션으로 청크 단위로 읽고, 청크마다 UPDATE 한 번과 체크포인트를 같은 짧은 트랜잭션으로 커밋합니다.
+ *   <li>커넥션 풀 사용률이 높으면 서비스 요청을 위해 다음 청크를 미룹니다.
+ *   <li>임대(lease)를 가진 서버 하나만 진행하며, 서버가 중단되면 임대 만료 후 체크포인트부터 이어서 진행합니다.
+ * </ul>
+ *
+ * <p>메트릭: {@code terms.reconsent.users{type}}, {@code terms.reconsent.throttled}
+ */
+@Slf4j
+@Component
+public class ReconsentBackfill {
+
+    private static final ScheduledExecutorService SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("terms-reconsent").daemon().factory());
+
+    /** 임대 소유자 식별자 (서버 인스턴스마다 다름) */
+    private final String owner = UUID.randomUUID().toString();
+
+    private final TermsRepository termsRepository;
+    private final ReconsentJobRepository reconsentJobRepository;
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final TermsCatalog termsCatalog;
+    private final TransactionTemplate transactionTemplate;
+    private final HikariDataSource hikariDataSource;
+    private final TermsReconsentProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Counter throttled;
+
+    private volatile ScheduledFuture<?> scheduled;
+    private volatile boolean stopped;
+
+    public ReconsentBackfill(
+            TermsRepository termsRepository,
+            ReconsentJobRepository reconsentJobRepository,
+            UserRepository userRepository,
+            UserCache userCache,
+            TermsCatalog termsCatalog,
+            TransactionTemplate transactionTemplate,
+            DataSource dataSource,
+            TermsReconsentProperties properties,
+            MeterRegistry meterRegistry) {
+        this.termsRepository = termsRepository;
+        this.reconsentJobRepository = reconsentJobRepository;
+        this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.termsCatalog = termsCatalog;
+        this.transactionTemplate = transactionTemplate;
+        this.hikariDataSource = unwrapHikari(dataSource);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.throttled = meterRegistry.counter("terms.reconsent.throttled");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        long intervalMillis = properties.checkInterval().toMillis();
+        scheduled =
+                SCHEDULER.scheduleWithFixedDelay(
+                        this::runQuietly, 0L, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        ScheduledFuture<?> current = scheduled;
+        if (current != null) {
+            current.cancel(false);
+        }
+    }
+
+    /** 약관 활성화가 커밋되면 다음 확인 주기를 기다리지 않고 바로 확인합니다. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTermsChanged(TermsChangedEvent event) {
+        if (properties.enabled() && !stopped) {
+            SCHEDULER.execute(this::runQuietly);
+        }
+    }
+
+    /** 새 약관 버전에 대한 작업을 만들고, 선점할 수 있는 진행 중 작업을 실행합니다. */
+    public void runPendingJobs() {
+        List<Terms> newVersions = termsRepository.findNewVersionsWithoutReconsentJob();
+        for (Terms terms : newVersions) {
+            createJob(terms);
+        }
+        if (!newVersions.isEmpty()) {
+            // 필수 약관 동의 판단에 새 작업이 바로 반영되도록 카탈로그의 진행 중 작업 목록 갱신
+            termsCatalog.refresh();
+        }
+
+        for (ReconsentJob job : reconsentJobRepository.findByStatus(ReconsentJobStatus.RUNNING)) {
+            if (stopped) {
+                return;
+            }
+            ReconsentJob claimed = claim(job);
+            if (claimed != null) {
+                run(claimed);
+            }
+        }
+    }
+
+    private void runQuietly() {
+        try {
+            runPendingJobs();
+        } catch (RuntimeException e) {
+            // 체크포인트부터 다음 주기에 이어서 진행
+            log.warn("Reconsent backfill failed - reason: {}", e.getMessage(), e);
+        }
+    }
+
+    private void createJob(Terms terms) {
+        try {
+            reconsentJobRepository.save(ReconsentJob.start(terms));
+            log.info(
+                    "Reconsent job created - termsId: {}, type: {}, version: {}",
+                    terms.getId(),
+                    terms.getType(),
+                    terms.getVersion());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 먼저 생성
+            log.debug("Reconsent job already exists - termsId: {}", terms.getId());
+        }
+    }
+
+    /** 작업을 선점하고, 선점 전에 이전 소유자가 갱신했을 수 있는 체크포인트를 같은 트랜잭션에서 다시 읽습니다. */
+    private ReconsentJob claim(ReconsentJob job) {
+        LocalDateTime now = LocalDateTime.now();
+        return transactionTemplate.execute(
+                status ->
+                        reconsentJobRepository.claim(job.getId(), owner, now, leaseUntil(now)) == 1
+                                ? reconsentJobRepository.findById(job.getId()).orElse(null)
+                                : null);
+    }
+
+    private void run(ReconsentJob job) {
+        long bit = job.getTermsType().bit();
+        long lastUserId = job.getLastUserId();
+        long processed = job.getProcessedUsers();
+        long maxUserId = userRepository.findMaxId();
+        Counter updatedUsers =
+                meterRegistry.counter("terms.reconsent.users", "type", job.getTermsType().name());
+
+        long startedAt = System.nanoTime();
+        long processedAtStart = processed;
+        long lastLoggedAt = startedAt;
+        log.info(
+                "Reconsent job started - jobId: {}, type: {}, resumeAfterUserId: {}, maxUserId: {}",
+                job.getId(),
+                job.getTermsType(),
+                lastUserId,
+                maxUserId);
+
+        while (!stopped) {
+            if (!awaitPoolCapacity()) {
+                return;
+            }
+
+            Chunk chunk = applyChunk(job, lastUserId, bit);
+            if (chunk == null) {
+                log.warn("Reconsent job lease lost - jobId: {}", job.getId());
+                return;
+            }
+            if (chunk.userIds().isEmpty()) {
+                complete(job, processed, startedAt, processedAtStart);
+                return;
+            }
+            userCache.invalidateAll(chunk.userIds());
+            updatedUsers.increment(chunk.updated());
+
+            lastUserId = chunk.userIds().getLast();
+            processed += chunk.updated();
+
+            long now = System.nanoTime();
+            if (now - lastLoggedAt >= properties.progressLogInterval().toNanos()) {
+                logProgress(job, lastUserId, maxUserId, processed - processedAtStart, startedAt);
+                lastLoggedAt = now;
+            }
+            if (!sleep(properties.pauseBetweenChunks().toMillis())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 다음 청크의 사용자를 조회해 UPDATE하고 체크포인트와 함께 한 트랜잭션으로 커밋합니다.
+     *
+     * <p>쓰기 트랜잭션 안에서 조회하므로 복제본이 아닌 주 DB의 최신 동의 내역을 기준으로 합니다. 임대를 잃었으면 롤백하고 null을
+     * 반환합니다.
+     */
+    private Chunk applyChunk(ReconsentJob job, long lastUserId, long bit) {
+        LocalDateTime now = LocalDateTime.now();
+        return transactionTemplate.execute(
+                status -> {
+                    List<Long> userIds =
+                            userRepository.findReconsentTargetIds(
+                                    lastUserId,
+                                    bit,
+                                    job.getTermsId(),
+                                    PageRequest.of(0, properties.chunkSize()));
+                    if (userIds.isEmpty()) {
+                        return new Chunk(userIds, 0);
+                    }
+
+                    int updated =
+                            job.isRequired()
+                                    ? userRepository.clearAgreedTermsBitAndRequireReconsent(
+                                            userIds, bit, job.getTermsId(), now)
+                                    : userRepository.clearAgreedTermsBit(
+                                            userIds, bit, job.getTermsId(), now);
+                    int checkpointed =
+                            reconsentJobRepository.checkpoint(
+                                    job.getId(),
+                                    owner,
+                                    userIds.getLast(),
+                                    updated,
+                                    now,
+                                    leaseUntil(now));
+                    if (checkpointed == 0) {
+                        status.setRollbackOnly();
+                        return null;
+                    }
+                    return new Chunk(userIds, updated);
+                });
+    }
+
+    private void complete(ReconsentJob job, long processed, long startedAt, long processedAtStart) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(
+                status -> reconsentJobRepository.complete(job.getId(), owner, now));
+        termsCatalog.refresh();
+
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1e9, 0.001);
+        log.info(
+                "Reconsent job completed - jobId: {}, type: {}, processedUsers: {}, rate: {}/s",
+                job.getId(),
+                job.getTermsType(),
+                processed,
+                Math.round((processed - processedAtStart) / seconds));
+    }
+
+    private void logProgress(
+            ReconsentJob job, long lastUserId, long maxUserId, long processed, long startedAt) {
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1e9, 0.001);
+        log.info(
+                "Reconsent job progress - jobId: {}, lastUserId: {}/{} ({}%), processed: {}, "
+                        + "rate: {}/s",
+                job.getId(),
+                lastUserId,
+                maxUserId,
+                maxUserId > 0 ? lastUserId * 100 / maxUserId : 100,
+                processed,
+                Math.round(processed / seconds));
+    }
+
+    /** 커넥션 풀 사용률이 기준 이하가 될 때까지 기다립니다. 중단되면 false를 반환합니다. */
+    private boolean awaitPoolCapacity() {
+        if (hikariDataSource == null || hikariDataSource.getHikariPoolMXBean() == null) {
+            return true;
+        }
+
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        int maxPoolSize = hikariDataSource.getMaximumPoolSize();
+        while (!stopped) {
+            double utilization = (double) pool.getActiveConnections() / maxPoolSize;
+            if (utilization < properties.maxPoolUtilization()
+                    && pool.getThreadsAwaitingConnection() == 0) {
+                return true;
+            }
+            throttled.increment();
+            if (!sleep(properties.throttleBackoff().toMillis())) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private LocalDateTime leaseUntil(LocalDateTime now) {
+        return now.plus(properties.leaseDuration());
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Chunk(List<Long> userIds, int updated) {}
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.wit.be.terms.application;
+
+import com.wit.be.common.response.EnvelopeTemplate;
+import com.wit.be.infra.properties.TermsCatalogProperties;
+import com.wit.be.terms.domain.ReconsentJobStatus;
+import com.wit.be.terms.domain.Terms;
+import com.wit.be.terms.domain.TermsChangedEvent;
+import com.wit.be.terms.dto.response.TermsResponse;
+import com.wit.be.terms.repository.ReconsentJobRepository;
+import com.wit.be.terms.repository.TermsRepository;
+import com.wit.be.user.domain.UserSnapshot.PendingReconsent;
+import jakarta.annotation.PreDestroy;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * 활성 약관 카탈로그.
+ *
+ * <p>활성 약관은 인증 없이 모든 신규 설치에서 조회되지만 거의 바뀌지 않으므로, 불변 스냅샷과 미리 직렬화한 응답 본문을 메모리에 보관합니다.
+ *
+ * <ul>
+ *   <li>이 서버에서 약관이 바뀌면 커밋 후 바로 다시 읽습니다.
+ *   <li>다른 경로(다른 서버, 마이그레이션)의 변경은 주기적인 재조회로 반영합니다.
+ *   <li>ETag는 약관 내용만으로 만들므로 내용이 같으면 서버나 재기동과 관계없이 같습니다.
+ *   <li>본문은 응답 시각(timestamp) 자리만 비워 두고 미리 직렬화하며, 응답할 때 현재 시각을 채웁니다.
+ *   <li>진행 중인 필수 약관 재동의 백필도 함께 읽어 두어, 필수 약관 동의 판단에 요청마다 조회하지 않습니다.
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TermsCatalog {
+
+    private static final ScheduledExecutorService REFRESH_SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("terms-catalog-refresh").daemon().factory());
+
+    /** ETag에 사용할 다이제스트 길이 (바이트) */
+    private static final int ETAG_LENGTH = 16;
+
+    private final TermsRepository termsRepository;
+    private final ReconsentJobRepository reconsentJobRepository;
+    private final JsonMapper jsonMapper;
+    private final CBORMapper cborMapper;
+    private final TermsCatalogProperties properties;
+
+    private volatile TermsCatalogSnapshot snapshot;
+    private volatile ScheduledFuture<?> scheduled;
+
+    /**
+     * 현재 스냅샷을 반환합니다. 아직 읽지 않았으면 DB에서 읽습니다.
+     *
+     * @return 활성 약관 스냅샷
+     */
+    public TermsCatalogSnapshot snapshot() {
+        TermsCatalogSnapshot current = snapshot;
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * DB에서 활성 약관과 진행 중인 재동의 백필을 다시 읽고, 내용이 바뀐 경우에만 스냅샷을 교체합니다.
+     *
+     * @return 최신 스냅샷
+     */
+    public synchronized TermsCatalogSnapshot refresh() {
+        List<Terms> activeTerms = termsRepository.findByActiveTrue();
+        List<TermsResponse> responses = activeTerms.stream().map(TermsResponse::from).toList();
+        List<PendingReconsent> pendingReconsents =
+                reconsentJobRepository
+                        .findByStatusAndRequiredTrueOrderByIdAsc(ReconsentJobStatus.RUNNING)
+                        .stream()
+                        .map(
+                                job ->
+                                        new PendingReconsent(
+                                                job.getTermsType().bit(),
+                                                job.getLastUserId(),
+                                                job.getCreatedAt()))
+                        .toList();
+
+        TermsCatalogSnapshot current = snapshot;
+        if (current != null && current.terms().equals(responses)) {
+            if (!current.pendingReconsents().equals(pendingReconsents)) {
+                snapshot = current.withPendingReconsents(pendingReconsents);
+            }
+            return snapshot;
+        }
+
+        TermsCatalogSnapshot next = render(activeTerms, responses, pendingReconsents);
+        snapshot = next;
+        log.info("Terms catalog refreshed - terms: {}, etag: {}", responses.size(), next.etag());
+        return next;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refreshQuietly();
+        long intervalMillis = properties.refreshInterval().toMillis();
+        scheduled =
+                REFRESH_SCHEDULER.scheduleWithFixedDelay(
+                        this::refreshQuietly,
+                        intervalMillis,
+                        intervalMillis,
+                        TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ScheduledFuture<?> current = scheduled;
+        if (current != null) {
+            current.cancel(false);
+        }
+    }
+
+    /** 커밋된 변경만 읽도록 트랜잭션 종료 후 별도 스레드에서 다시 읽습니다. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTermsChanged(TermsChangedEvent event) {
+        REFRESH_SCHEDULER.execute(this::refreshQuietly);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // 재조회에 실패해도 기존 스냅샷으로 계속 응답
+            log.warn("Terms catalog refresh failed - reason: {}", e.getMessage());
+        }
+    }
+
+    private TermsCatalogSnapshot render(
+            List<Terms> activeTerms,
+            List<TermsResponse> responses,
+            List<PendingReconsent> pendingReconsents) {
+        Map<String, TermsCatalogSnapshot.Entry> entries = new HashMap<>();
+        Set<Long> requiredIds = new HashSet<>();
+        long requiredMask = 0L;
+        for (Terms terms : activeTerms) {
+            entries.put(
+                    terms.getPublicId(),
+                    new TermsCatalogSnapshot.Entry(
+                            terms.getId(), terms.isRequired(), terms.getType()));
+            if (terms.isRequired()) {
+                requiredIds.add(terms.getId());
+                requiredMask |= terms.getType().bit();
+            }
+        }
+
+        // ETag는 응답 시각을 제외한 약관 내용만으로 만들고, 형식마다 다른 값을 씀
+        String digest = digest(jsonMapper.writeValueAsBytes(responses));
+        return new TermsCatalogSnapshot(
+                responses,
+                Map.copyOf(entries),
+                Set.copyOf(requiredIds),
+                requiredMask,
+                EnvelopeTemplate.success(jsonMapper, HttpStatus.OK.value(), responses),
+                "\"" + digest + "\"",
+                EnvelopeTemplate.success(cborMapper, HttpStatus.OK.value(), responses),
+                "\"" + digest + "-cbor\"",
+                pendingReconsents);
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(Arrays.copyOf(digest, ETAG_LENGTH));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.wit.be.terms.application;
+
+import com.wit.be.common.response.EnvelopeTemplate;
+import com.wit.be.terms.domain.TermsType;
+import com.wit.be.terms.dto.response.TermsResponse;
+import com.wit.be.user.domain.UserSnapshot.PendingReconsent;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 활성 약관 목록의 불변 스냅샷.
+ *
+ * @param terms 응답용 약관 목록
+ * @param entries 공개 ID → 약관 (동의 검증용)
+ * @param requiredIds 활성 필수 약관 ID
+ * @param requiredMask 활성 필수 약관 유형의 비트마스크
+ * @param body 응답 시각만 비워 두고 미리 직렬화한 응답 본문 (BaseResponse 포함)
+ * @param etag 약관 내용으로 만든 강한 ETag (따옴표 포함)
+ * @param cborBody 같은 응답을 CBOR로 미리 직렬화한 본문
+ * @param cborEtag CBOR 본문의 강한 ETag (따옴표 포함)
+ * @param pendingReconsents 진행 중인 필수 약관 재동의 백필 (필수 약관 동의 판단용)
+ */
+public record TermsCatalogSnapshot(
+        List<TermsResponse> terms,
+        Map<String, Entry> entries,
+        Set<Long> requiredIds,
+        long requiredMask,
+        EnvelopeTemplate body,
+        String etag,
+        EnvelopeTemplate cborBody,
+        String cborEtag,
+        List<PendingReconsent> pendingReconsents) {
+
+    /**
+     * 공개 ID로 활성 약관을 찾습니다.
+     *
+     * @param publicId 약관 공개 ID
+     * @return 약관 (활성 약관이 아니면 null)
+     */
+    public Entry find(String publicId) {
+        return entries.get(publicId);
+    }
+
+    /**
+     * 진행 중인 재동의 백필만 바꾼 스냅샷을 만듭니다. 약관이 같으므로 본문과 ETag는 유지됩니다.
+     *
+     * @param pendingReconsents 진행 중인 필수 약관 재동의 백필
+     * @return 새 스냅샷
+     */
+    public TermsCatalogSnapshot withPendingReconsents(List<PendingReconsent> pendingReconsents) {
+        return new TermsCatalogSnapshot(
+                terms,
+                entries,
+                requiredIds,
+                requiredMask,
+                body,
+                etag,
+                cborBody,
+                cborEtag,
+                pendingReconsents);
+    }
+
+    /**
+     * 동의 검증에 필요한 약관 정보.
+     *
+     * @param id 약관 ID
+     * @param required 필수 여부
+     * @param type 약관 유형 (동의 비트 위치)
+     */
+    public record Entry(Long id, boolean required, TermsType type) {}
+}
@@ -2,7 +2,7 @@ package com.wit.be.terms.application;
 
 import com.wit.be.terms.dto.response.TermsResponse;
 import com.wit.be.terms.repository.TermsRepository;
-import com.wit.be.terms.repository.UserTermsAgreementRepository;
+import com.wit.be.user.application.UserQueryService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,15 +14,25 @@ import org.springframework.transaction.annotation.Transactional;
 public class TermsQueryServiceImpl implements TermsQueryService {
 
     private final TermsRepository termsRepository;
-    private final UserTermsAgreementRepository userTermsAgreementRepository;
+    private final TermsCatalog termsCatalog;
+    private final UserQueryService userQueryService;
 
     @Override
     public List<TermsResponse> getActiveTerms() {
         return termsRepository.findByActiveTrue().stream().map(TermsResponse::from).toList();
     }
 
+    /**
+     * 캐시된 사용자 스냅샷의 동의 비트마스크를 활성 필수 약관 비트마스크와 비교합니다.
+     *
+     * <p>진행 중인 재동의 백필도 카탈로그에 함께 보관하므로 요청마다 추가 조회가 없습니다. 판단 규칙은 {@link
+     * com.wit.be.user.domain.UserSnapshot#hasAgreedToAll}을 따릅니다.
+     */
     @Override
     public boolean hasAgreedToAllRequiredTerms(Long userId) {
-        return userTermsAgreementRepository.hasAgreedToAllRequiredTerms(userId);
+        TermsCatalogSnapshot catalog = termsCatalog.snapshot();
+        return userQueryService
+                .getSnapshot(userId)
+                .hasAgreedToAll(catalog.requiredMask(), catalog.pendingReconsents());
     }
 }
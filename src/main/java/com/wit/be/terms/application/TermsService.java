@@ -1,6 +1,7 @@
 package com.wit.be.terms.application;
 
 import com.wit.be.terms.dto.request.TermsAgreementRequest;
+import com.wit.be.user.domain.UserStatus;
 
 /** 약관 서비스 인터페이스 (CUD 작업) */
 public interface TermsService {
@@ -10,6 +11,7 @@ public interface TermsService {
      *
      * @param userId 사용자 ID
      * @param request 약관 동의 요청
+     * @return 약관 동의 후 사용자 상태
      */
-    void agreeToTerms(Long userId, TermsAgreementRequest request);
+    UserStatus agreeToTerms(Long userId, TermsAgreementRequest request);
 }
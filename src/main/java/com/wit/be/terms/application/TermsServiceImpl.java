@@ -1,5 +1,6 @@
 package com.wit.be.terms.application;
 
+import com.wit.be.common.entity.PublicIdConverter;
 import com.wit.be.common.exception.BusinessException;
 import com.wit.be.terms.domain.Terms;
 import com.wit.be.terms.domain.UserTermsAgreement;
@@ -9,7 +10,11 @@ import com.wit.be.terms.repository.TermsRepository;
 import com.wit.be.terms.repository.UserTermsAgreementRepository;
 import com.wit.be.user.application.UserQueryService;
 import com.wit.be.user.domain.User;
+import com.wit.be.user.domain.UserStatus;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,67 +26,96 @@ public class TermsServiceImpl implements TermsService {
     private final TermsRepository termsRepository;
     private final UserTermsAgreementRepository userTermsAgreementRepository;
     private final UserQueryService userQueryService;
+    private final TermsCatalog termsCatalog;
 
+    /**
+     * 약관은 활성 약관 카탈로그에서 찾고, 카탈로그에 없는(비활성) 약관만 한 번에 조회합니다. 기존 동의 조회 1회와 배치 쓰기를 더해
+     * 요청 크기와 관계없이 쿼리 수가 일정합니다.
+     *
+     * <p>새 동의는 INSERT 배치로, 기존 동의 변경은 더티 체킹에 의한 UPDATE 배치로 flush됩니다.
+     */
     @Override
     @Transactional
-    public void agreeToTerms(Long userId, TermsAgreementRequest request) {
+    public UserStatus agreeToTerms(Long userId, TermsAgreementRequest request) {
         User user = userQueryService.findById(userId);
+        TermsCatalogSnapshot catalog = termsCatalog.snapshot();
 
-        List<Terms> requiredTerms = termsRepository.findByRequiredTrueAndActiveTrue();
-
+        // 같은 약관이 중복으로 오면 하나라도 미동의인 경우 미동의로 처리
+        // 소문자 ULID도 같은 약관으로 조회되므로 키는 정규 표기로 통일
+        Map<String, Boolean> agreedByPublicId = new HashMap<>();
         for (TermsAgreementRequest.TermsAgreement agreement : request.agreements()) {
-            Terms terms =
-                    termsRepository
-                            .findByPublicId(agreement.termsPublicId())
-                            .orElseThrow(
-                                    () -> new BusinessException(TermsErrorCode.TERMS_NOT_FOUND));
+            agreedByPublicId.merge(
+                    PublicIdConverter.normalize(agreement.termsPublicId()),
+                    agreement.agreed(),
+                    Boolean::logicalAnd);
+        }
 
-            // 필수 약관인데 동의하지 않은 경우
-            if (terms.isRequired() && !agreement.agreed()) {
-                throw new BusinessException(TermsErrorCode.REQUIRED_TERMS_NOT_AGREED);
+        Map<Long, Boolean> agreedByTermsId = new HashMap<>();
+        List<String> inactivePublicIds = new ArrayList<>();
+        boolean requiredNotAgreed = false;
+        long agreedTermsMask = user.getAgreedTermsMask();
+        for (Map.Entry<String, Boolean> agreement : agreedByPublicId.entrySet()) {
+            TermsCatalogSnapshot.Entry terms = catalog.find(agreement.getKey());
+            if (terms == null) {
+                inactivePublicIds.add(agreement.getKey());
+                continue;
             }
+            agreedByTermsId.put(terms.id(), agreement.getValue());
+            requiredNotAgreed |= terms.required() && !agreement.getValue();
 
-            saveOrUpdateAgreement(user, terms, agreement.agreed());
+            // 동의 비트는 활성 약관에 대해서만 관리
+            long bit = terms.type().bit();
+            agreedTermsMask = agreement.getValue() ? agreedTermsMask | bit : agreedTermsMask & ~bit;
         }
 
-        // 모든 필수 약관에 동의했는지 검증
-        validateAllRequiredTermsAgreed(requiredTerms, request);
+        if (!inactivePublicIds.isEmpty()) {
+            List<Terms> inactiveTerms = termsRepository.findByPublicIdIn(inactivePublicIds);
+            if (inactiveTerms.size() != inactivePublicIds.size()) {
+                throw new BusinessException(TermsErrorCode.TERMS_NOT_FOUND);
+            }
+            for (Terms terms : inactiveTerms) {
+                boolean agreed = agreedByPublicId.get(terms.getPublicId());
+                agreedByTermsId.put(terms.getId(), agreed);
+                requiredNotAgreed |= terms.isRequired() && !agreed;
+            }
+        }
+
+        // 모든 필수 약관에 동의했는지 검증 (요청에 없는 필수 약관 포함)
+        for (Long requiredId : catalog.requiredIds()) {
+            requiredNotAgreed |= !Boolean.TRUE.equals(agreedByTermsId.get(requiredId));
+        }
+        if (requiredNotAgreed) {
+            throw new BusinessException(TermsErrorCode.REQUIRED_TERMS_NOT_AGREED);
+        }
+
+        saveOrUpdateAgreements(user, agreedByTermsId);
+        user.updateAgreedTermsMask(agreedTermsMask);
 
         // 약관 동의 완료 시 사용자 상태를 PENDING_ONBOARDING으로 변경
         user.completeTermsAgreement();
+        return user.getStatus();
     }
 
-    private void saveOrUpdateAgreement(User user, Terms terms, boolean agreed) {
-        userTermsAgreementRepository
-                .findByUserIdAndTermsId(user.getId(), terms.getId())
-                .ifPresentOrElse(
-                        existingAgreement -> {
-                            if (agreed) {
-                                existingAgreement.agree();
-                            } else {
-                                existingAgreement.withdraw();
-                            }
-                        },
-                        () -> {
-                            UserTermsAgreement newAgreement =
-                                    UserTermsAgreement.create(user, terms, agreed);
-                            userTermsAgreementRepository.save(newAgreement);
-                        });
-    }
-
-    private void validateAllRequiredTermsAgreed(
-            List<Terms> requiredTerms, TermsAgreementRequest request) {
-        for (Terms requiredTerm : requiredTerms) {
-            boolean isAgreed =
-                    request.agreements().stream()
-                            .filter(a -> a.termsPublicId().equals(requiredTerm.getPublicId()))
-                            .findFirst()
-                            .map(TermsAgreementRequest.TermsAgreement::agreed)
-                            .orElse(false);
-
-            if (!isAgreed) {
-                throw new BusinessException(TermsErrorCode.REQUIRED_TERMS_NOT_AGREED);
+    private void saveOrUpdateAgreements(User user, Map<Long, Boolean> agreedByTermsId) {
+        Map<Long, Boolean> newAgreements = new HashMap<>(agreedByTermsId);
+        for (UserTermsAgreement existingAgreement :
+                userTermsAgreementRepository.findByUserIdAndTermsIdIn(
+                        user.getId(), agreedByTermsId.keySet())) {
+            boolean agreed = newAgreements.remove(existingAgreement.getTerms().getId());
+            if (agreed) {
+                existingAgreement.agree();
+            } else {
+                existingAgreement.withdraw();
             }
         }
+
+        // 약관 엔티티는 외래 키로만 쓰이므로 조회 없이 참조만 사용
+        List<UserTermsAgreement> agreements = new ArrayList<>(newAgreements.size());
+        newAgreements.forEach(
+                (termsId, agreed) ->
+                        agreements.add(
+                                UserTermsAgreement.create(
+                                        user, termsRepository.getReferenceById(termsId), agreed)));
+        userTermsAgreementRepository.saveAll(agreements);
     }
 }
@@ -0,0 +1,77 @@
+package com.wit.be.terms.domain;
+
+import com.wit.be.common.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 새 약관 버전 게시에 따른 재동의 백필 작업.
+ *
+ * <p>사용자를 ID 순으로 처리하며 마지막으로 처리한 사용자 ID를 체크포인트로 남기므로, 중단되어도 이어서 진행할 수 있습니다. 여러 서버 중 임대(lease)를
+ * 가진 서버 하나만 진행합니다.
+ */
+@Getter
+@Entity
+@Table(name = "terms_reconsent_jobs")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReconsentJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "terms_reconsent_jobs_seq")
+    @SequenceGenerator(
+            name = "terms_reconsent_jobs_seq",
+            sequenceName = "terms_reconsent_jobs_seq",
+            allocationSize = 50)
+    private Long id;
+
+    /** 새로 활성화된 약관 ID */
+    @Column(nullable = false, unique = true)
+    private Long termsId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private TermsType termsType;
+
+    @Column(nullable = false)
+    private boolean required;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReconsentJobStatus status;
+
+    /** 마지막으로 처리한 사용자 ID (키셋 페이지네이션 시작점) */
+    @Column(nullable = false)
+    private long lastUserId;
+
+    @Column(nullable = false)
+    private long processedUsers;
+
+    @Column(length = 36)
+    private String leaseOwner;
+
+    private LocalDateTime leaseUntil;
+
+    private LocalDateTime completedAt;
+
+    private ReconsentJob(Terms terms) {
+        this.termsId = terms.getId();
+        this.termsType = terms.getType();
+        this.required = terms.isRequired();
+        this.status = ReconsentJobStatus.RUNNING;
+    }
+
+    public static ReconsentJob start(Terms terms) {
+        return new ReconsentJob(terms);
+    }
+}
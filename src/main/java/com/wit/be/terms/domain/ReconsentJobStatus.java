@@ -0,0 +1,14 @@
+package com.wit.be.terms.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 재동의 백필 작업 상태 */
+@Getter
+@RequiredArgsConstructor
+public enum ReconsentJobStatus {
+    RUNNING("진행 중"),
+    COMPLETED("완료");
+
+    private final String value;
+}
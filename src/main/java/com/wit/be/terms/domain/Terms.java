@@ -1,14 +1,18 @@
 package com.wit.be.terms.domain;
 
 import com.wit.be.common.entity.BaseTimeEntity;
+import com.wit.be.common.entity.PublicIdConverter;
 import com.wit.be.common.util.PublicIdGenerator;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,14 +23,17 @@ import lombok.NoArgsConstructor;
 @Getter
 @Entity
 @Table(name = "terms")
+@EntityListeners(TermsEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Terms extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "terms_seq")
+    @SequenceGenerator(name = "terms_seq", sequenceName = "terms_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true, updatable = false, length = 26)
+    @Convert(converter = PublicIdConverter.class)
+    @Column(nullable = false, unique = true, updatable = false)
     private String publicId;
 
     @Enumerated(EnumType.STRING)
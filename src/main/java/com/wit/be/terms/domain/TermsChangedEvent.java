@@ -0,0 +1,8 @@
+package com.wit.be.terms.domain;
+
+/**
+ * 약관이 추가, 변경, 삭제되었음을 알리는 이벤트.
+ *
+ * @param termsId 약관 ID
+ */
+public record TermsChangedEvent(Long termsId) {}
@@ -0,0 +1,21 @@
+package com.wit.be.terms.domain;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/** 약관 변경이 DB에 반영될 때 {@link TermsChangedEvent}를 발행합니다 (활성 약관 카탈로그 갱신용). */
+@RequiredArgsConstructor
+public class TermsEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Terms terms) {
+        eventPublisher.publishEvent(new TermsChangedEvent(terms.getId()));
+    }
+}
@@ -3,7 +3,11 @@ package com.wit.be.terms.domain;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-/** 약관 유형 */
+/**
+ * 약관 유형.
+ *
+ * <p>선언 순서가 사용자 동의 비트마스크의 비트 위치이므로 새 유형은 맨 뒤에만 추가합니다 (최대 64개).
+ */
 @Getter
 @RequiredArgsConstructor
 public enum TermsType {
@@ -12,4 +16,9 @@ public enum TermsType {
     MARKETING("마케팅 정보 수신");
 
     private final String value;
+
+    /** 사용자 동의 비트마스크에서 이 유형의 비트 */
+    public long bit() {
+        return 1L << ordinal();
+    }
 }
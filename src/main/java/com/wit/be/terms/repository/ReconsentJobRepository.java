@@ -0,0 +1,57 @@
+package com.wit.be.terms.repository;
+
+import com.wit.be.terms.domain.ReconsentJob;
+import com.wit.be.terms.domain.ReconsentJobStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReconsentJobRepository extends JpaRepository<ReconsentJob, Long> {
+
+    List<ReconsentJob> findByStatus(ReconsentJobStatus status);
+
+    List<ReconsentJob> findByStatusAndRequiredTrueOrderByIdAsc(ReconsentJobStatus status);
+
+    /** 임대가 없거나 만료된 진행 중 작업을 선점합니다. 선점하면 1을 반환합니다. */
+    @Modifying
+    @Query(
+            "UPDATE ReconsentJob j SET j.leaseOwner = :owner, j.leaseUntil = :leaseUntil "
+                    + "WHERE j.id = :id "
+                    + "AND j.status = com.wit.be.terms.domain.ReconsentJobStatus.RUNNING "
+                    + "AND (j.leaseUntil IS NULL OR j.leaseUntil < :now OR j.leaseOwner = :owner)")
+    int claim(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /** 진행 상황을 기록하고 임대를 연장합니다. 임대를 잃었으면 0을 반환합니다. */
+    @Modifying
+    @Query(
+            "UPDATE ReconsentJob j SET j.lastUserId = :lastUserId, "
+                    + "j.processedUsers = j.processedUsers + :processed, "
+                    + "j.leaseUntil = :leaseUntil, j.updatedAt = :now "
+                    + "WHERE j.id = :id AND j.leaseOwner = :owner")
+    int checkpoint(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("lastUserId") long lastUserId,
+            @Param("processed") long processed,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query(
+            "UPDATE ReconsentJob j "
+                    + "SET j.status = com.wit.be.terms.domain.ReconsentJobStatus.COMPLETED, "
+                    + "j.completedAt = :now, j.updatedAt = :now, "
+                    + "j.leaseOwner = NULL, j.leaseUntil = NULL "
+                    + "WHERE j.id = :id AND j.leaseOwner = :owner")
+    int complete(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now);
+}
@@ -2,9 +2,11 @@ package com.wit.be.terms.repository;
 
 import com.wit.be.terms.domain.Terms;
 import com.wit.be.terms.domain.TermsType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface TermsRepository extends JpaRepository<Terms, Long> {
 
@@ -15,4 +17,14 @@ public interface TermsRepository extends JpaRepository<Terms, Long> {
     Optional<Terms> findByTypeAndActiveTrue(TermsType type);
 
     List<Terms> findByRequiredTrueAndActiveTrue();
+
+    List<Terms> findByPublicIdIn(Collection<String> publicIds);
+
+    /** 비활성화된 이전 버전이 있지만 재동의 작업이 아직 없는 활성 약관 (새로 게시된 약관 버전) */
+    @Query(
+            "SELECT t FROM Terms t WHERE t.active = true "
+                    + "AND EXISTS (SELECT o.id FROM Terms o "
+                    + "WHERE o.type = t.type AND o.active = false) "
+                    + "AND NOT EXISTS (SELECT j.id FROM ReconsentJob j WHERE j.termsId = t.id)")
+    List<Terms> findNewVersionsWithoutReconsentJob();
 }
@@ -1,6 +1,7 @@
 package com.wit.be.terms.repository;
 
 import com.wit.be.terms.domain.UserTermsAgreement;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,16 +14,11 @@ public interface UserTermsAgreementRepository extends JpaRepository<UserTermsAgr
 
     List<UserTermsAgreement> findByUserId(Long userId);
 
+    List<UserTermsAgreement> findByUserIdAndTermsIdIn(Long userId, Collection<Long> termsIds);
+
     @Query(
             "SELECT uta FROM UserTermsAgreement uta WHERE uta.user.id = :userId AND uta.agreed = true")
     List<UserTermsAgreement> findAgreedByUserId(@Param("userId") Long userId);
 
-    @Query(
-            "SELECT COUNT(uta) = "
-                    + "(SELECT COUNT(t) FROM Terms t WHERE t.required = true AND t.active = true) "
-                    + "FROM UserTermsAgreement uta "
-                    + "WHERE uta.user.id = :userId AND uta.agreed = true AND uta.terms.required = true")
-    boolean hasAgreedToAllRequiredTerms(@Param("userId") Long userId);
-
     boolean existsByUserIdAndTermsId(Long userId, Long termsId);
 }
@@ -0,0 +1,29 @@
+package com.wit.be.user.api;
+
+import com.wit.be.user.application.UserActivityTracker;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/** 인증된 요청의 사용자를 접속 기록에 남깁니다 (DB 반영은 {@link UserActivityTracker}가 모아서 처리). */
+@Component
+@RequiredArgsConstructor
+public class UserActivityInterceptor implements HandlerInterceptor {
+
+    private final UserActivityTracker userActivityTracker;
+
+    @Override
+    public boolean preHandle(
+            HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            userActivityTracker.recordSeen(Long.parseLong(user.getUsername()));
+        }
+        return true;
+    }
+}
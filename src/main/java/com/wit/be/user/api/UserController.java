@@ -1,12 +1,15 @@
 package com.wit.be.user.api;
 
 import com.wit.be.common.annotation.CurrentUserId;
+import com.wit.be.user.application.UserQueryService;
 import com.wit.be.user.application.UserService;
 import com.wit.be.user.dto.request.OnboardingRequest;
+import com.wit.be.user.dto.response.UserResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,6 +22,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService;
+    private final UserQueryService userQueryService;
+
+    @GetMapping("/me")
+    public ResponseEntity<UserResponse> getMe(@CurrentUserId Long userId) {
+        UserResponse response = UserResponse.from(userQueryService.getSnapshot(userId));
+        return ResponseEntity.ok(response);
+    }
 
     @PatchMapping("/onboarding")
     public ResponseEntity<Void> completeOnboarding(
@@ -0,0 +1,19 @@
+package com.wit.be.user.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/** 사용자 모듈의 MVC 설정 (접속 기록 인터셉터 등록). */
+@Configuration
+@RequiredArgsConstructor
+public class UserWebConfig implements WebMvcConfigurer {
+
+    private final UserActivityInterceptor userActivityInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(userActivityInterceptor);
+    }
+}
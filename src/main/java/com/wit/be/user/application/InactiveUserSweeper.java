@@ -0,0 +1,141 @@
+package com.wit.be.user.application;
+
+import com.wit.be.infra.properties.UserActivityProperties;
+import com.wit.be.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 장기 미접속 활성 사용자를 비활성화하는 작업.
+ *
+ * <p>사용자를 ID 순 키셋 페이지네이션으로 청크 단위로 조회해, 청크마다 짧은 트랜잭션으로 비활성화합니다. UPDATE에서 조건을 다시
+ * 확인하므로 조회 후 접속한 사용자나 여러 서버의 동시 실행은 영향이 없습니다. 비활성 사용자는 다시 로그인하면 활성화됩니다.
+ *
+ * <p>메트릭: {@code user.inactivity.deactivated}
+ */
+@Slf4j
+@Component
+public class InactiveUserSweeper {
+
+    private static final ScheduledExecutorService SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("inactive-user-sweeper").daemon().factory());
+
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final TransactionTemplate transactionTemplate;
+    private final UserActivityProperties properties;
+    private final Counter deactivated;
+
+    private volatile ScheduledFuture<?> scheduled;
+    private volatile boolean stopped;
+
+    public InactiveUserSweeper(
+            UserRepository userRepository,
+            UserCache userCache,
+            TransactionTemplate transactionTemplate,
+            UserActivityProperties properties,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.deactivated = meterRegistry.counter("user.inactivity.deactivated");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.sweepEnabled()) {
+            return;
+        }
+        long intervalMillis = properties.sweepInterval().toMillis();
+        scheduled =
+                SCHEDULER.scheduleWithFixedDelay(
+                        this::sweepQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        ScheduledFuture<?> current = scheduled;
+        if (current != null) {
+            current.cancel(false);
+        }
+    }
+
+    /**
+     * 마지막 접속 후 {@code inactive-after}가 지난 활성 사용자를 비활성화합니다.
+     *
+     * @return 비활성화한 사용자 수
+     */
+    public long sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.inactiveAfter());
+        long lastUserId = 0L;
+        long total = 0L;
+
+        while (!stopped) {
+            long afterId = lastUserId;
+            Chunk chunk = transactionTemplate.execute(status -> deactivateChunk(afterId, cutoff));
+            if (chunk == null || chunk.userIds().isEmpty()) {
+                break;
+            }
+            userCache.invalidateAll(chunk.userIds());
+            deactivated.increment(chunk.updated());
+            total += chunk.updated();
+            lastUserId = chunk.userIds().getLast();
+
+            if (!sleep(properties.pauseBetweenChunks().toMillis())) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Inactive users deactivated - count: {}, lastSeenBefore: {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private Chunk deactivateChunk(long afterId, LocalDateTime cutoff) {
+        List<Long> userIds =
+                userRepository.findIdleUserIds(
+                        afterId, cutoff, PageRequest.of(0, properties.sweepChunkSize()));
+        if (userIds.isEmpty()) {
+            return new Chunk(userIds, 0);
+        }
+        return new Chunk(
+                userIds, userRepository.deactivateIdleUsers(userIds, cutoff, LocalDateTime.now()));
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            log.warn("Inactive user sweep failed - reason: {}", e.getMessage(), e);
+        }
+    }
+
+    private record Chunk(List<Long> userIds, int updated) {}
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.wit.be.user.application;
+
+import com.wit.be.infra.properties.UserActivityProperties;
+import com.wit.be.user.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자 로그인/접속 기록 (write-behind).
+ *
+ * <p>요청마다 사용자 행을 갱신하지 않도록 접속한 사용자 ID만 메모리에 모으고, {@code flush-interval}마다 배치 UPDATE로 반영합니다.
+ * 반영 시각은 반영 시점이므로 접속 시각의 정밀도는 반영 주기와 같습니다. 서버가 정상 종료되면 남은 기록을 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserActivityTracker {
+
+    private static final ScheduledExecutorService FLUSH_SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("user-activity-flush").daemon().factory());
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final UserActivityProperties properties;
+
+    private final Set<Long> loggedIn = ConcurrentHashMap.newKeySet();
+    private final Set<Long> seen = ConcurrentHashMap.newKeySet();
+
+    private volatile ScheduledFuture<?> scheduled;
+
+    /**
+     * 로그인을 기록합니다 (접속 시각도 함께 갱신).
+     *
+     * @param userId 사용자 ID
+     */
+    public void recordLogin(Long userId) {
+        loggedIn.add(userId);
+    }
+
+    /**
+     * 인증된 요청을 기록합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void recordSeen(Long userId) {
+        seen.add(userId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long intervalMillis = properties.flushInterval().toMillis();
+        scheduled =
+                FLUSH_SCHEDULER.scheduleWithFixedDelay(
+                        this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ScheduledFuture<?> current = scheduled;
+        if (current != null) {
+            current.cancel(false);
+        }
+        flushQuietly();
+    }
+
+    /** 모아 둔 기록을 DB에 반영합니다. */
+    public synchronized void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        int logins = flushBuffer(loggedIn, now, userRepository::updateLastLoginAt);
+        int visits = flushBuffer(seen, now, userRepository::updateLastSeenAt);
+        if (logins > 0 || visits > 0) {
+            log.debug("User activity flushed - logins: {}, seen: {}", logins, visits);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // 반영하지 못한 기록은 버퍼에 남아 다음 주기에 다시 시도
+            log.warn("User activity flush failed - reason: {}", e.getMessage());
+        }
+    }
+
+    private int flushBuffer(
+            Set<Long> buffer,
+            LocalDateTime now,
+            BiFunction<Collection<Long>, LocalDateTime, Integer> update) {
+        int flushed = 0;
+        while (!buffer.isEmpty()) {
+            List<Long> batch = drain(buffer);
+            try {
+                transactionTemplate.executeWithoutResult(status -> update.apply(batch, now));
+            } catch (RuntimeException e) {
+                buffer.addAll(batch);
+                throw e;
+            }
+            flushed += batch.size();
+        }
+        return flushed;
+    }
+
+    // 꺼내는 동안 다시 기록된 사용자는 버퍼에 남아 다음 배치나 주기에 반영됨
+    private List<Long> drain(Set<Long> buffer) {
+        List<Long> batch = new ArrayList<>(Math.min(buffer.size(), properties.flushBatchSize()));
+        Iterator<Long> iterator = buffer.iterator();
+        while (iterator.hasNext() && batch.size() < properties.flushBatchSize()) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,249 @@
+package com.wit.be.user.application;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wit.be.infra.properties.UserCacheProperties;
+import com.wit.be.user.domain.UserChangedEvent;
+import com.wit.be.user.domain.UserSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 사용자 스냅샷 2단계 캐시 (로컬 → Redis → DB).
+ *
+ * <ul>
+ *   <li>로컬 캐시에서 찾지 못하면 Redis, 그다음 DB 순으로 조회해 상위 단계에 채웁니다. 같은 사용자의 동시 조회는 한 번만 로드합니다.
+ *   <li>사용자가 변경되면 트랜잭션 종료 후 로컬 항목과 Redis 항목을 지우고, pub/sub으로 다른 서버의 로컬 항목도 지웁니다.
+ *   <li>무효화할 때마다 사용자별 버전을 올리고, DB에서 읽은 값은 읽기 전 버전이 그대로일 때만 Redis에 저장합니다. 무효화 직전에
+ *       읽은 이전 값이 무효화 뒤에 다시 저장되지 않습니다.
+ * </ul>
+ *
+ * <p>Redis는 보조 저장소이므로 장애 시 DB 조회로 진행합니다. 메트릭: {@code cache.gets{cache=user.snapshot}},
+ * {@code user.cache.redis{result=hit|miss}}
+ */
+@Slf4j
+@Component
+public class UserCache implements MessageListener {
+
+    private static final String CACHE_NAME = "user.snapshot";
+    // 스냅샷 구조가 바뀌면 버전을 올려 이전 형식의 항목을 읽지 않게 함
+    private static final String REDIS_KEY_PREFIX = "user:v3:";
+    private static final String VERSION_KEY_PREFIX = "user:v3:version:";
+    private static final ChannelTopic CHANNEL = new ChannelTopic("user_invalidations");
+
+    /** 항목 제거와 버전 증가를 한 번의 왕복으로 수행 */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/invalidate-user-cache.lua"), Long.class);
+
+    /** 버전 비교와 저장을 원자적으로 수행 */
+    private static final RedisScript<Long> WRITE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/write-user-cache.lua"), Long.class);
+
+    private final UserCacheProperties properties;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectReader snapshotReader;
+    private final ObjectWriter snapshotWriter;
+    private final Cache<Long, UserSnapshot> cache;
+
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public UserCache(
+            UserCacheProperties properties,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.snapshotReader = jsonMapper.readerFor(UserSnapshot.class);
+        this.snapshotWriter = jsonMapper.writerFor(UserSnapshot.class);
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumSize(properties.maximumSize())
+                        .expireAfterWrite(properties.localTtl())
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        this.redisHits = meterRegistry.counter("user.cache.redis", "result", "hit");
+        this.redisMisses = meterRegistry.counter("user.cache.redis", "result", "miss");
+
+        if (isRedisEnabled()) {
+            listenerContainer.addMessageListener(this, CHANNEL);
+        }
+    }
+
+    /**
+     * 사용자 스냅샷을 조회합니다. 캐시에 없으면 loader로 DB에서 읽어 채웁니다.
+     *
+     * @param userId 사용자 ID
+     * @param loader DB 조회 함수 (사용자가 없으면 예외를 던지며, 이 경우 캐시하지 않음)
+     * @return 사용자 스냅샷
+     */
+    public UserSnapshot get(Long userId, Function<Long, UserSnapshot> loader) {
+        if (!properties.enabled()) {
+            return loader.apply(userId);
+        }
+        return cache.get(userId, id -> load(id, loader));
+    }
+
+    /**
+     * 사용자 캐시 항목을 모든 서버에서 제거합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+        if (!isRedisEnabled()) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(
+                    INVALIDATE_SCRIPT,
+                    List.of(REDIS_KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId),
+                    versionTtlMillis());
+            redisTemplate.convertAndSend(CHANNEL.getTopic(), userId.toString());
+        } catch (RuntimeException e) {
+            // 다른 서버의 로컬 항목은 localTtl 이내에 만료됨
+            log.warn(
+                    "User cache invalidation failed - userId: {}, reason: {}",
+                    userId,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 사용자의 캐시 항목을 모든 서버에서 제거합니다 (대량 UPDATE 후).
+     *
+     * @param userIds 사용자 ID 목록
+     */
+    public void invalidateAll(Collection<Long> userIds) {
+        cache.invalidateAll(userIds);
+        if (!isRedisEnabled() || userIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> keys = new ArrayList<>(userIds.size() * 2);
+            for (Long userId : userIds) {
+                keys.add(REDIS_KEY_PREFIX + userId);
+                keys.add(VERSION_KEY_PREFIX + userId);
+            }
+            redisTemplate.execute(INVALIDATE_SCRIPT, keys, versionTtlMillis());
+            redisTemplate.convertAndSend(
+                    CHANNEL.getTopic(),
+                    String.join(",", userIds.stream().map(String::valueOf).toList()));
+        } catch (RuntimeException e) {
+            log.warn(
+                    "User cache invalidation failed - users: {}, reason: {}",
+                    userIds.size(),
+                    e.getMessage());
+        }
+    }
+
+    // 롤백된 경우에도 트랜잭션 중에 읽혀 캐시된 값이 남지 않도록 커밋 여부와 관계없이 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    /** 다른 서버에서 변경된 사용자의 로컬 항목을 제거합니다 (쉼표로 구분된 여러 ID 가능). */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        for (String userId : new String(message.getBody(), UTF_8).split(",")) {
+            cache.invalidate(Long.valueOf(userId));
+        }
+    }
+
+    private UserSnapshot load(Long userId, Function<Long, UserSnapshot> loader) {
+        if (!isRedisEnabled()) {
+            return loader.apply(userId);
+        }
+
+        RedisEntry shared = readFromRedis(userId);
+        if (shared != null && shared.snapshot() != null) {
+            redisHits.increment();
+            return shared.snapshot();
+        }
+        redisMisses.increment();
+
+        UserSnapshot snapshot = loader.apply(userId);
+
+        // 조회에 실패해 버전을 모르면 무효화 여부를 확인할 수 없으므로 저장하지 않음
+        if (shared != null) {
+            writeToRedis(snapshot, shared.version());
+        }
+        return snapshot;
+    }
+
+    /** 항목과 버전을 한 번에 읽습니다. 조회에 실패하면 null을 반환합니다. */
+    private RedisEntry readFromRedis(Long userId) {
+        try {
+            List<String> values =
+                    redisTemplate
+                            .opsForValue()
+                            .multiGet(
+                                    List.of(
+                                            REDIS_KEY_PREFIX + userId,
+                                            VERSION_KEY_PREFIX + userId));
+            String value = values.get(0);
+            String version = values.get(1);
+            return new RedisEntry(
+                    value != null ? snapshotReader.readValue(value) : null,
+                    version != null ? version : "");
+        } catch (RuntimeException e) {
+            log.warn("User cache read failed - userId: {}, reason: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToRedis(UserSnapshot snapshot, String version) {
+        try {
+            redisTemplate.execute(
+                    WRITE_SCRIPT,
+                    List.of(REDIS_KEY_PREFIX + snapshot.id(), VERSION_KEY_PREFIX + snapshot.id()),
+                    version,
+                    snapshotWriter.writeValueAsString(snapshot),
+                    String.valueOf(properties.redisTtl().toMillis()));
+        } catch (RuntimeException e) {
+            log.warn(
+                    "User cache write failed - userId: {}, reason: {}",
+                    snapshot.id(),
+                    e.getMessage());
+        }
+    }
+
+    // 버전 키는 진행 중인 로드보다 오래 남도록 항목 TTL만큼 유지
+    private String versionTtlMillis() {
+        return String.valueOf(properties.redisTtl().toMillis());
+    }
+
+    private boolean isRedisEnabled() {
+        return properties.enabled() && properties.redisEnabled();
+    }
+
+    private record RedisEntry(UserSnapshot snapshot, String version) {}
+}
@@ -2,6 +2,7 @@ package com.wit.be.user.application;
 
 import com.wit.be.user.domain.SocialType;
 import com.wit.be.user.domain.User;
+import com.wit.be.user.domain.UserSnapshot;
 
 /** 사용자 조회 서비스 인터페이스 (Read 작업) */
 public interface UserQueryService {
@@ -15,6 +16,15 @@ public interface UserQueryService {
      */
     User findById(Long userId);
 
+    /**
+     * 사용자 스냅샷을 조회합니다. 캐시를 먼저 확인하므로 상태를 변경하지 않는 조회에 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 스냅샷
+     * @throws com.wit.be.common.exception.BusinessException 사용자를 찾을 수 없는 경우
+     */
+    UserSnapshot getSnapshot(Long userId);
+
     /**
      * 소셜 로그인 사용자 존재 여부를 확인합니다.
      *
@@ -1,12 +1,15 @@
 package com.wit.be.user.application;
 
 import com.wit.be.common.exception.BusinessException;
+import com.wit.be.infra.datasource.DataSourceRouting;
 import com.wit.be.user.domain.SocialType;
 import com.wit.be.user.domain.User;
+import com.wit.be.user.domain.UserSnapshot;
 import com.wit.be.user.exception.UserErrorCode;
 import com.wit.be.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -15,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserQueryServiceImpl implements UserQueryService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Override
     public User findById(Long userId) {
@@ -23,6 +27,15 @@ public class UserQueryServiceImpl implements UserQueryService {
                 .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
     }
 
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (미스 시 Repository가 자체 트랜잭션으로 조회)
+    // 복제 지연 중의 값이 캐시에 남지 않도록 캐시 적재는 주 DB에서 읽음
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserSnapshot getSnapshot(Long userId) {
+        return userCache.get(
+                userId, id -> DataSourceRouting.onPrimary(() -> UserSnapshot.from(findById(id))));
+    }
+
     @Override
     public boolean existsBySocialTypeAndProviderId(SocialType socialType, String providerId) {
         return userRepository.findBySocialTypeAndProviderId(socialType, providerId).isPresent();
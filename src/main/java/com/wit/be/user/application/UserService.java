@@ -11,6 +11,8 @@ public interface UserService {
     /**
      * 소셜 로그인 사용자를 조회하거나 신규 생성합니다.
      *
+     * <p>같은 소셜 계정으로 동시에 최초 로그인해도 사용자는 하나만 생성됩니다.
+     *
      * @param socialType 소셜 타입
      * @param providerId 소셜 제공자 ID
      * @param email 이메일
@@ -1,6 +1,7 @@
 package com.wit.be.user.application;
 
 import com.wit.be.common.exception.BusinessException;
+import com.wit.be.common.util.PublicIdGenerator;
 import com.wit.be.user.domain.Gender;
 import com.wit.be.user.domain.SocialType;
 import com.wit.be.user.domain.User;
@@ -11,8 +12,10 @@ import com.wit.be.user.repository.UserRepository;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -21,25 +24,43 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserQueryService userQueryService;
+    private final TransactionTemplate transactionTemplate;
+    private final UserActivityTracker userActivityTracker;
 
+    // 소셜 로그인마다 호출되므로 로그인 시각은 행을 바로 갱신하지 않고 모아서 반영
     @Override
-    @Transactional
     public User findOrCreateUser(SocialType socialType, String providerId, String email) {
-        return userRepository
-                .findBySocialTypeAndProviderId(socialType, providerId)
-                .map(
-                        user -> {
-                            // 비활성 사용자가 재로그인하면 활성화
-                            if (user.getStatus() == UserStatus.INACTIVE) {
-                                log.info(
-                                        "Reactivating inactive user - userId: {}, email: {}",
-                                        user.getId(),
-                                        user.getEmail());
-                                user.activate();
-                            }
-                            return user;
-                        })
-                .orElseGet(() -> createUser(socialType, providerId, email));
+        User user = findOrCreate(socialType, providerId, email);
+        userActivityTracker.recordLogin(user.getId());
+        return user;
+    }
+
+    // 유니크 제약 위반 시 새 트랜잭션에서 재시도해야 하므로 트랜잭션을 직접 관리
+    private User findOrCreate(SocialType socialType, String providerId, String email) {
+        // Postgres: 단일 upsert 문장으로 조회와 생성을 한 번에 처리 (동시 최초 로그인에도 안전)
+        if (userRepository.supportsNativeUpsert()) {
+            return transactionTemplate.execute(
+                    status ->
+                            reactivateIfInactive(
+                                    userRepository.upsert(
+                                            socialType,
+                                            providerId,
+                                            email,
+                                            PublicIdGenerator.generate())));
+        }
+
+        // 그 외(H2 등): 조회 후 생성. 동시 최초 로그인에서 진 쪽은 이긴 쪽이 커밋한 사용자를 다시 조회
+        try {
+            return transactionTemplate.execute(
+                    status -> findOrInsert(socialType, providerId, email));
+        } catch (DataIntegrityViolationException e) {
+            log.info(
+                    "Concurrent first login detected, retrying - socialType: {}, providerId: {}",
+                    socialType,
+                    providerId);
+            return transactionTemplate.execute(
+                    status -> findOrInsert(socialType, providerId, email));
+        }
     }
 
     @Override
@@ -81,6 +102,25 @@ public class UserServiceImpl implements UserService {
         user.delete();
     }
 
+    private User findOrInsert(SocialType socialType, String providerId, String email) {
+        return userRepository
+                .findBySocialTypeAndProviderId(socialType, providerId)
+                .map(this::reactivateIfInactive)
+                .orElseGet(() -> createUser(socialType, providerId, email));
+    }
+
+    // 비활성 사용자가 재로그인하면 활성화 (드문 경우이므로 upsert와 별도로 변경 감지로 처리)
+    private User reactivateIfInactive(User user) {
+        if (user.getStatus() == UserStatus.INACTIVE) {
+            log.info(
+                    "Reactivating inactive user - userId: {}, email: {}",
+                    user.getId(),
+                    user.getEmail());
+            user.activate();
+        }
+        return user;
+    }
+
     private User createUser(SocialType socialType, String providerId, String email) {
         log.info(
                 "Creating new user - socialType: {}, providerId: {}, email: {}",
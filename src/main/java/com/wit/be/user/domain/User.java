@@ -1,32 +1,47 @@
 package com.wit.be.user.domain;
 
 import com.wit.be.common.entity.BaseTimeEntity;
+import com.wit.be.common.entity.PublicIdConverter;
 import com.wit.be.common.util.PublicIdGenerator;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Entity
-@Table(name = "users")
+@Table(
+        name = "users",
+        uniqueConstraints =
+                @UniqueConstraint(
+                        name = "uk_users_social_provider",
+                        columnNames = {"social_type", "provider_id"}))
+@EntityListeners(UserEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true, updatable = false, length = 26)
+    @Convert(converter = PublicIdConverter.class)
+    @Column(nullable = false, unique = true, updatable = false)
     private String publicId;
 
     @Enumerated(EnumType.STRING)
@@ -59,6 +74,22 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false, length = 20)
     private UserRole role;
 
+    /** 동의한 활성 약관 유형의 비트마스크 (약관 유형 순서 = 비트 위치) */
+    @Column(nullable = false)
+    private long agreedTermsMask;
+
+    /** 마지막으로 약관 동의를 제출한 시각 (재동의 백필 중 새 버전 동의 여부 판단) */
+    private LocalDateTime termsAgreedAt;
+
+    // 접속 기록은 UserActivityTracker가 모아서 일괄 UPDATE하므로 엔티티 변경 감지로는 덮어쓰지 않음
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime lastLoginAt;
+
+    // 가입 시각을 첫 접속 시각으로 간주 (NULL이면 장기 미접속 조회에서 빠짐)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime lastSeenAt;
+
     @Builder
     private User(
             SocialType socialType,
@@ -112,7 +143,16 @@ public class User extends BaseTimeEntity {
     }
 
     public void completeTermsAgreement() {
-        this.status = UserStatus.PENDING_ONBOARDING;
+        // 새 약관 버전에 재동의한 경우 이미 온보딩을 마쳤으므로 활성 상태로 복귀
+        this.status =
+                this.status == UserStatus.PENDING_RECONSENT
+                        ? UserStatus.ACTIVE
+                        : UserStatus.PENDING_ONBOARDING;
+    }
+
+    public void updateAgreedTermsMask(long agreedTermsMask) {
+        this.agreedTermsMask = agreedTermsMask;
+        this.termsAgreedAt = LocalDateTime.now();
     }
 
     public boolean isPendingAgreement() {
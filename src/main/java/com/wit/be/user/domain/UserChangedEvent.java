@@ -0,0 +1,8 @@
+package com.wit.be.user.domain;
+
+/**
+ * 사용자 정보가 변경되었음을 알리는 이벤트 (캐시 무효화용).
+ *
+ * @param userId 변경된 사용자 ID
+ */
+public record UserChangedEvent(Long userId) {}
@@ -0,0 +1,24 @@
+package com.wit.be.user.domain;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 사용자 상태 변경(온보딩, 프로필 수정, 삭제, 약관 동의 등)이 DB에 반영될 때 {@link UserChangedEvent}를 발행합니다.
+ *
+ * <p>변경 감지로 UPDATE가 실행되는 모든 경로를 잡기 위해 서비스가 아닌 엔티티 수준에서 발행합니다. Hibernate가 스프링 빈으로
+ * 생성하므로 생성자 주입을 사용할 수 있습니다.
+ */
+@RequiredArgsConstructor
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    void onChange(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.wit.be.user.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 사용자 정보의 불변 스냅샷.
+ *
+ * <p>영속성 컨텍스트와 무관하므로 캐시에 보관하거나 서버 간에 공유할 수 있습니다. 상태 변경은 {@link User} 엔티티로 합니다.
+ */
+public record UserSnapshot(
+        Long id,
+        String publicId,
+        SocialType socialType,
+        String email,
+        String nickname,
+        Gender gender,
+        LocalDate birthDate,
+        String profileImageUrl,
+        UserStatus status,
+        UserRole role,
+        long agreedTermsMask,
+        LocalDateTime termsAgreedAt) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getPublicId(),
+                user.getSocialType(),
+                user.getEmail(),
+                user.getNickname(),
+                user.getGender(),
+                user.getBirthDate(),
+                user.getProfileImageUrl(),
+                user.getStatus(),
+                user.getRole(),
+                user.getAgreedTermsMask(),
+                user.getTermsAgreedAt());
+    }
+
+    /**
+     * 필수 약관에 모두 동의했는지 확인합니다.
+     *
+     * <p>동의 비트는 약관 유형 단위이므로, 새 필수 약관 버전의 재동의 백필이 아직 처리하지 않은 사용자는 이전 버전의 비트를 그대로
+     * 가지고 있습니다. 이런 사용자는 백필 시작 이후에 약관에 동의한 경우에만 해당 유형에 동의한 것으로 봅니다.
+     *
+     * @param requiredMask 활성 필수 약관의 비트마스크
+     * @param pendingReconsents 진행 중인 필수 약관 재동의 백필
+     * @return 모든 필수 약관 동의 여부
+     */
+    public boolean hasAgreedToAll(
+            long requiredMask, Collection<PendingReconsent> pendingReconsents) {
+        if ((agreedTermsMask & requiredMask) != requiredMask) {
+            return false;
+        }
+        for (PendingReconsent pending : pendingReconsents) {
+            if ((agreedTermsMask & pending.bit()) != 0
+                    && id > pending.lastUserId()
+                    && (termsAgreedAt == null || termsAgreedAt.isBefore(pending.startedAt()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 진행 중인 필수 약관 재동의 백필.
+     *
+     * @param bit 새 버전이 게시된 약관 유형의 비트
+     * @param lastUserId 백필이 처리한 마지막 사용자 ID (이하의 사용자는 비트가 정리됨)
+     * @param startedAt 백필 시작 시각 (이후의 동의는 새 버전에 대한 동의)
+     */
+    public record PendingReconsent(long bit, long lastUserId, LocalDateTime startedAt) {}
+}
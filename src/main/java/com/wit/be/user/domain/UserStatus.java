@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 public enum UserStatus {
     PENDING_AGREEMENT("약관 동의 대기 중"),
     PENDING_ONBOARDING("온보딩 대기 중"),
+    PENDING_RECONSENT("약관 재동의 대기 중"),
     ACTIVE("활성"),
     INACTIVE("비활성"),
     DELETED("탈퇴");
@@ -0,0 +1,30 @@
+package com.wit.be.user.dto.response;
+
+import com.wit.be.user.domain.Gender;
+import com.wit.be.user.domain.SocialType;
+import com.wit.be.user.domain.UserSnapshot;
+import com.wit.be.user.domain.UserStatus;
+import java.time.LocalDate;
+
+public record UserResponse(
+        String publicId,
+        SocialType socialType,
+        String email,
+        String nickname,
+        Gender gender,
+        LocalDate birthDate,
+        String profileImageUrl,
+        UserStatus status) {
+
+    public static UserResponse from(UserSnapshot user) {
+        return new UserResponse(
+                user.publicId(),
+                user.socialType(),
+                user.email(),
+                user.nickname(),
+                user.gender(),
+                user.birthDate(),
+                user.profileImageUrl(),
+                user.status());
+    }
+}
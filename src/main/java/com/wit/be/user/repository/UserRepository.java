@@ -2,10 +2,17 @@ package com.wit.be.user.repository;
 
 import com.wit.be.user.domain.SocialType;
 import com.wit.be.user.domain.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserUpsertRepository {
 
     Optional<User> findByPublicId(String publicId);
 
@@ -14,4 +21,106 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    long findMaxId();
+
+    /**
+     * 약관 유형 비트가 설정되어 있지만 해당 약관(새 버전)에는 동의하지 않은 사용자 ID를 ID 순으로 조회합니다 (키셋 페이지네이션).
+     *
+     * @param afterId 이 ID 이후부터 조회
+     * @param bit 약관 유형 비트
+     * @param termsId 새 버전 약관 ID
+     * @param pageable 조회 크기
+     * @return 사용자 ID 목록
+     */
+    @Query(
+            "SELECT u.id FROM User u WHERE u.id > :afterId "
+                    + "AND bitand(u.agreedTermsMask, :bit) <> 0 "
+                    + "AND NOT EXISTS (SELECT a.id FROM UserTermsAgreement a "
+                    + "WHERE a.user.id = u.id AND a.terms.id = :termsId AND a.agreed = true) "
+                    + "ORDER BY u.id")
+    List<Long> findReconsentTargetIds(
+            @Param("afterId") long afterId,
+            @Param("bit") long bit,
+            @Param("termsId") Long termsId,
+            Pageable pageable);
+
+    /** 선택 약관의 새 버전: 조회 이후 새 버전에 동의하지 않은 사용자의 동의 비트만 해제합니다. */
+    @Modifying
+    @Query(
+            "UPDATE User u SET u.agreedTermsMask = u.agreedTermsMask - :bit, u.updatedAt = :now "
+                    + "WHERE u.id IN :ids AND bitand(u.agreedTermsMask, :bit) <> 0 "
+                    + "AND NOT EXISTS (SELECT a.id FROM UserTermsAgreement a "
+                    + "WHERE a.user.id = u.id AND a.terms.id = :termsId AND a.agreed = true)")
+    int clearAgreedTermsBit(
+            @Param("ids") Collection<Long> ids,
+            @Param("bit") long bit,
+            @Param("termsId") Long termsId,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 필수 약관의 새 버전: 동의 비트를 해제하고 활성 사용자를 재동의 대기 상태로 바꿉니다. 조회 이후 새 버전에 동의한 사용자는
+     * 건너뜁니다.
+     */
+    @Modifying
+    @Query(
+            "UPDATE User u SET u.agreedTermsMask = u.agreedTermsMask - :bit, "
+                    + "u.status = CASE WHEN u.status = com.wit.be.user.domain.UserStatus.ACTIVE "
+                    + "THEN com.wit.be.user.domain.UserStatus.PENDING_RECONSENT "
+                    + "ELSE u.status END, "
+                    + "u.updatedAt = :now "
+                    + "WHERE u.id IN :ids AND bitand(u.agreedTermsMask, :bit) <> 0 "
+                    + "AND NOT EXISTS (SELECT a.id FROM UserTermsAgreement a "
+                    + "WHERE a.user.id = u.id AND a.terms.id = :termsId AND a.agreed = true)")
+    int clearAgreedTermsBitAndRequireReconsent(
+            @Param("ids") Collection<Long> ids,
+            @Param("bit") long bit,
+            @Param("termsId") Long termsId,
+            @Param("now") LocalDateTime now);
+
+    /** 로그인 시각과 접속 시각을 갱신합니다. 다른 서버가 더 최근 시각을 기록했으면 건너뜁니다. */
+    @Modifying
+    @Query(
+            "UPDATE User u SET u.lastLoginAt = :now, u.lastSeenAt = :now "
+                    + "WHERE u.id IN :ids AND (u.lastLoginAt IS NULL OR u.lastLoginAt < :now)")
+    int updateLastLoginAt(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /** 접속 시각을 갱신합니다. 다른 서버가 더 최근 시각을 기록했으면 건너뜁니다. */
+    @Modifying
+    @Query(
+            "UPDATE User u SET u.lastSeenAt = :now "
+                    + "WHERE u.id IN :ids AND (u.lastSeenAt IS NULL OR u.lastSeenAt < :now)")
+    int updateLastSeenAt(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 기준 시각 이전에 마지막으로 접속한 활성 사용자 ID를 ID 순으로 조회합니다 (키셋 페이지네이션).
+     *
+     * @param afterId 이 ID 이후부터 조회
+     * @param cutoff 마지막 접속 기준 시각
+     * @param pageable 조회 크기
+     * @return 사용자 ID 목록
+     */
+    @Query(
+            "SELECT u.id FROM User u WHERE u.id > :afterId "
+                    + "AND u.status = com.wit.be.user.domain.UserStatus.ACTIVE "
+                    + "AND u.lastSeenAt < :cutoff "
+                    + "ORDER BY u.id")
+    List<Long> findIdleUserIds(
+            @Param("afterId") long afterId,
+            @Param("cutoff") LocalDateTime cutoff,
+            Pageable pageable);
+
+    /** 조회 이후 다시 접속하지 않은 사용자만 비활성화합니다. */
+    @Modifying
+    @Query(
+            "UPDATE User u SET u.status = com.wit.be.user.domain.UserStatus.INACTIVE, "
+                    + "u.updatedAt = :now "
+                    + "WHERE u.id IN :ids "
+                    + "AND u.status = com.wit.be.user.domain.UserStatus.ACTIVE "
+                    + "AND u.lastSeenAt < :cutoff")
+    int deactivateIdleUsers(
+            @Param("ids") Collection<Long> ids,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,26 @@
+package com.wit.be.user.repository;
+
+import com.wit.be.user.domain.SocialType;
+import com.wit.be.user.domain.User;
+
+/** 소셜 로그인 사용자 upsert (Postgres 전용 네이티브 쿼리) */
+public interface UserUpsertRepository {
+
+    /**
+     * 현재 DB가 단일 문장 upsert(INSERT ... ON CONFLICT ... RETURNING)를 지원하는지 여부.
+     *
+     * @return Postgres면 true
+     */
+    boolean supportsNativeUpsert();
+
+    /**
+     * 소셜 계정의 사용자를 한 번의 왕복으로 조회하거나 생성합니다. 동시에 호출되어도 사용자는 하나만 생성됩니다.
+     *
+     * @param socialType 소셜 타입
+     * @param providerId 소셜 제공자 ID
+     * @param email 이메일 (신규 생성 시에만 사용)
+     * @param publicId 공개 ID (신규 생성 시에만 사용)
+     * @return 영속 상태의 사용자
+     */
+    User upsert(SocialType socialType, String providerId, String email, String publicId);
+}
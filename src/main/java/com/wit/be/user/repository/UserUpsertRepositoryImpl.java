@@ -0,0 +1,86 @@
+package com.wit.be.user.repository;
+
+import com.wit.be.common.entity.PublicIdConverter;
+import com.wit.be.user.domain.SocialType;
+import com.wit.be.user.domain.User;
+import com.wit.be.user.domain.UserRole;
+import com.wit.be.user.domain.UserStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.transaction.annotation.Transactional;
+
+class UserUpsertRepositoryImpl implements UserUpsertRepository {
+
+    // ID는 엔티티와 같은 pooled 시퀀스 생성기에서 받음 (SQL에서 nextval을 직접 호출하면
+    // Hibernate가 메모리에 확보해 둔 ID 구간과 겹칠 수 있음)
+    // 충돌 시 RETURNING으로 기존 행을 받기 위해 DO NOTHING 대신 값이 바뀌지 않는 DO UPDATE 사용
+    // (인덱스 컬럼 값이 그대로이므로 HOT 업데이트 대상)
+    private static final String UPSERT_SQL =
+            """
+            INSERT INTO users (id, public_id, social_type, provider_id, email, status, role,
+                               created_at, updated_at)
+            VALUES (:id, :publicId, :socialType, :providerId, :email, :status, :role,
+                    CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            ON CONFLICT (social_type, provider_id) DO UPDATE SET status = users.status
+            RETURNING *
+            """;
+
+    @PersistenceContext private EntityManager entityManager;
+
+    private volatile Boolean nativeUpsert;
+
+    @Override
+    public boolean supportsNativeUpsert() {
+        Boolean supported = nativeUpsert;
+        if (supported == null) {
+            Dialect dialect =
+                    entityManager
+                            .getEntityManagerFactory()
+                            .unwrap(SessionFactoryImplementor.class)
+                            .getJdbcServices()
+                            .getDialect();
+            supported = dialect instanceof PostgreSQLDialect;
+            nativeUpsert = supported;
+        }
+        return supported;
+    }
+
+    @Override
+    @Transactional
+    public User upsert(SocialType socialType, String providerId, String email, String publicId) {
+        return (User)
+                entityManager
+                        .createNativeQuery(UPSERT_SQL, User.class)
+                        .setParameter("id", nextId())
+                        .setParameter("publicId", PublicIdConverter.toUuid(publicId))
+                        .setParameter("socialType", socialType.name())
+                        .setParameter("providerId", providerId)
+                        .setParameter("email", email)
+                        .setParameter("status", UserStatus.PENDING_AGREEMENT.name())
+                        .setParameter("role", UserRole.USER.name())
+                        .getSingleResult();
+    }
+
+    /** 충돌로 기존 행이 반환되면 받은 ID는 버려지지만, pooled 옵티마이저라 DB 왕복은 없습니다. */
+    private Object nextId() {
+        SessionFactoryImplementor sessionFactory =
+                entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        BeforeExecutionGenerator generator =
+                (BeforeExecutionGenerator)
+                        sessionFactory
+                                .getMappingMetamodel()
+                                .getEntityDescriptor(User.class)
+                                .getGenerator();
+        return generator.generate(
+                entityManager.unwrap(SharedSessionContractImplementor.class),
+                null,
+                null,
+                EventType.INSERT);
+    }
+}
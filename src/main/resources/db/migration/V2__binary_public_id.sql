@@ -0,0 +1,55 @@
+-- V2__binary_public_id.sql
+-- Description: Store public IDs as 16-byte UUID instead of VARCHAR(26), drop duplicate indexes
+-- Tables: users, terms
+
+-- ============================================================================
+-- 1. Duplicate indexes (already covered by unique constraints)
+-- ============================================================================
+DROP INDEX IF EXISTS idx_users_public_id;
+DROP INDEX IF EXISTS idx_users_social_type_provider_id;
+DROP INDEX IF EXISTS idx_users_email;
+DROP INDEX IF EXISTS idx_terms_public_id;
+
+-- ============================================================================
+-- 2. ULID (Crockford Base32, 26 chars) -> UUID
+-- ============================================================================
+-- 26자 x 5비트 = 130비트 중 상위 2비트는 항상 0이므로 나머지 128비트를 UUID로 사용
+-- 형식이 맞지 않는 값(초기 약관 데이터 등)은 NULL 반환
+CREATE FUNCTION ulid_to_uuid(ulid TEXT) RETURNS UUID AS $$
+DECLARE
+    alphabet CONSTANT TEXT := '0123456789ABCDEFGHJKMNPQRSTVWXYZ';
+    bits TEXT := '';
+    hex TEXT := '';
+    pos INT;
+BEGIN
+    IF ulid IS NULL OR length(ulid) <> 26 OR upper(substr(ulid, 1, 1)) > '7' THEN
+        RETURN NULL;
+    END IF;
+
+    FOR i IN 1..26 LOOP
+        pos := strpos(alphabet, upper(substr(ulid, i, 1))) - 1;
+        IF pos < 0 THEN
+            RETURN NULL;
+        END IF;
+        bits := bits || (pos::BIT(5))::TEXT;
+    END LOOP;
+
+    bits := substr(bits, 3);
+    FOR i IN 0..31 LOOP
+        hex := hex || to_hex(substr(bits, i * 4 + 1, 4)::BIT(4)::INT);
+    END LOOP;
+
+    RETURN hex::UUID;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- 변환할 수 없는 기존 값은 MD5로 결정적인 UUID를 만들어 사용 (공개 ID가 바뀌므로 클라이언트는 목록을 다시 조회)
+ALTER TABLE users
+    ALTER COLUMN public_id TYPE UUID
+    USING COALESCE(ulid_to_uuid(public_id), md5(public_id)::UUID);
+
+ALTER TABLE terms
+    ALTER COLUMN public_id TYPE UUID
+    USING COALESCE(ulid_to_uuid(public_id), md5(public_id)::UUID);
+
+DROP FUNCTION ulid_to_uuid(TEXT);
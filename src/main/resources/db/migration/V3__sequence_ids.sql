@@ -0,0 +1,26 @@
+-- V3__sequence_ids.sql
+-- Description: Replace IDENTITY columns with sequences (INCREMENT BY 50) for Hibernate pooled optimizer
+-- Tables: users, terms, user_terms_agreements
+
+-- ============================================================================
+-- 1. IDENTITY 제거
+-- ============================================================================
+-- IDENTITY는 INSERT 후에야 ID를 알 수 있어 Hibernate가 JDBC 배치를 사용하지 못함
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE terms ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE user_terms_agreements ALTER COLUMN id DROP IDENTITY;
+
+-- ============================================================================
+-- 2. 시퀀스 생성
+-- ============================================================================
+-- INCREMENT BY 값은 엔티티의 @SequenceGenerator(allocationSize)와 반드시 같아야 함
+CREATE SEQUENCE users_seq INCREMENT BY 50;
+CREATE SEQUENCE terms_seq INCREMENT BY 50;
+CREATE SEQUENCE user_terms_agreements_seq INCREMENT BY 50;
+
+-- pooled 옵티마이저는 시퀀스 값 v를 받으면 (v - 49) ~ v 구간을 사용하므로
+-- 첫 값을 (기존 최대 ID + 50)으로 맞춰 기존 행과 겹치지 않게 함
+SELECT setval('users_seq', COALESCE(MAX(id), 0) + 50, false) FROM users;
+SELECT setval('terms_seq', COALESCE(MAX(id), 0) + 50, false) FROM terms;
+SELECT setval('user_terms_agreements_seq', COALESCE(MAX(id), 0) + 50, false)
+FROM user_terms_agreements;
@@ -0,0 +1,28 @@
+-- V4__agreed_terms_mask.sql
+-- Description: Per-user bitmask of agreed active terms (bit = TermsType ordinal)
+-- Tables: users
+
+-- ============================================================================
+-- 1. 동의 비트마스크 컬럼
+-- ============================================================================
+ALTER TABLE users ADD COLUMN agreed_terms_mask BIGINT NOT NULL DEFAULT 0;
+
+-- ============================================================================
+-- 2. 기존 동의 내역으로 채우기
+-- ============================================================================
+-- 비트 위치는 TermsType 선언 순서와 같아야 함
+UPDATE users u
+SET agreed_terms_mask = m.mask
+FROM (
+    SELECT uta.user_id,
+           BIT_OR(CASE t.type
+                      WHEN 'TERMS_OF_SERVICE' THEN 1
+                      WHEN 'PRIVACY_POLICY' THEN 2
+                      WHEN 'MARKETING' THEN 4
+                  END) AS mask
+    FROM user_terms_agreements uta
+    JOIN terms t ON t.id = uta.term_id
+    WHERE uta.agreed = TRUE AND t.active = TRUE
+    GROUP BY uta.user_id
+) m
+WHERE u.id = m.user_id;
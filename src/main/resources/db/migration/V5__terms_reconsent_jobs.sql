@@ -0,0 +1,24 @@
+-- V5__terms_reconsent_jobs.sql
+-- Description: Checkpointed re-consent backfill jobs for newly published terms versions
+-- Tables: terms_reconsent_jobs
+
+CREATE SEQUENCE terms_reconsent_jobs_seq INCREMENT BY 50;
+
+CREATE TABLE terms_reconsent_jobs (
+    id BIGINT PRIMARY KEY,
+    terms_id BIGINT NOT NULL,
+    terms_type VARCHAR(50) NOT NULL,
+    required BOOLEAN NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    last_user_id BIGINT NOT NULL DEFAULT 0,
+    processed_users BIGINT NOT NULL DEFAULT 0,
+    lease_owner VARCHAR(36),
+    lease_until TIMESTAMP,
+    completed_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- 여러 서버가 같은 약관 버전을 동시에 감지해도 작업은 하나만 생성
+    CONSTRAINT uk_terms_reconsent_jobs_terms_id UNIQUE (terms_id),
+    CONSTRAINT fk_terms_reconsent_jobs_terms FOREIGN KEY (terms_id) REFERENCES terms(id) ON DELETE CASCADE
+);
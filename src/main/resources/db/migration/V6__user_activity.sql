@@ -0,0 +1,17 @@
+-- V6__user_activity.sql
+-- Description: Last login / last seen timestamps and index for the inactive-user sweeper
+-- Tables: users
+
+-- ============================================================================
+-- 1. 접속 시각 컬럼
+-- ============================================================================
+ALTER TABLE users ADD COLUMN last_login_at TIMESTAMP;
+ALTER TABLE users ADD COLUMN last_seen_at TIMESTAMP;
+
+-- 기존 사용자는 마지막 변경 시각을 마지막 접속 시각으로 간주 (배포 직후 일괄 비활성화 방지)
+UPDATE users SET last_seen_at = updated_at;
+
+-- ============================================================================
+-- 2. 장기 미접속 활성 사용자 조회용 인덱스
+-- ============================================================================
+CREATE INDEX idx_users_active_last_seen ON users (last_seen_at) WHERE status = 'ACTIVE';
@@ -0,0 +1,20 @@
+-- V7__terms_agreed_at.sql
+-- Description: Last terms agreement time, used to tell reconsented users apart while a backfill runs
+-- Tables: users
+
+-- ============================================================================
+-- 1. 약관 동의 시각 컬럼
+-- ============================================================================
+ALTER TABLE users ADD COLUMN terms_agreed_at TIMESTAMP;
+
+-- ============================================================================
+-- 2. 기존 동의 내역으로 채우기
+-- ============================================================================
+UPDATE users u
+SET terms_agreed_at = a.agreed_at
+FROM (
+    SELECT user_id, MAX(agreed_at) AS agreed_at
+    FROM user_terms_agreements
+    GROUP BY user_id
+) a
+WHERE u.id = a.user_id;
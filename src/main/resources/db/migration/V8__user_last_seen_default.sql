@@ -0,0 +1,14 @@
+-- V8__user_last_seen_default.sql
+-- Description: Default last_seen_at to the insert time so new users are visible to the inactive-user sweeper
+-- Tables: users
+
+-- ============================================================================
+-- 1. 접속 시각 기본값
+-- ============================================================================
+-- 엔티티는 last_seen_at을 INSERT하지 않으므로 기본값이 없으면 첫 접속 반영 전까지 NULL로 남아 스위퍼 조회에서 빠짐
+ALTER TABLE users ALTER COLUMN last_seen_at SET DEFAULT CURRENT_TIMESTAMP;
+
+-- ============================================================================
+-- 2. V6 이후 가입해 아직 NULL인 사용자는 가입 시각으로 채우기
+-- ============================================================================
+UPDATE users SET last_seen_at = created_at WHERE last_seen_at IS NULL;
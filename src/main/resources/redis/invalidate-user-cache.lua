@@ -0,0 +1,9 @@
+-- 사용자 캐시 항목 제거와 버전 증가
+-- KEYS: user:v3:{userId}, user:v3:version:{userId} 쌍의 반복
+-- ARGV[1]: 버전 키 TTL (밀리초, 진행 중인 로드보다 길어야 함)
+for i = 1, #KEYS, 2 do
+    redis.call('DEL', KEYS[i])
+    redis.call('INCR', KEYS[i + 1])
+    redis.call('PEXPIRE', KEYS[i + 1], ARGV[1])
+end
+return 1
@@ -0,0 +1,9 @@
+-- 사용자의 세션 목록 조회 (한 번의 왕복)
+-- KEYS[1]: refresh_sessions:{userId}
+-- 반환: [세션 ID, 만료 시각(epoch 밀리초), 세션 ID, 만료 시각, ...]
+local result = {}
+for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do
+    table.insert(result, field)
+    table.insert(result, redis.call('HPEXPIRETIME', KEYS[1], 'FIELDS', 1, field)[1])
+end
+return result
@@ -0,0 +1,47 @@
+-- 세션별 Refresh Token 교체 (compare-and-swap)
+-- KEYS[1]: refresh_sessions:{userId}
+-- KEYS[2]: refresh_token:{userId} (세션 도입 이전의 사용자당 단일 토큰 키)
+-- ARGV[1]: 세션 ID
+-- ARGV[2]: 제시된 Refresh Token의 SHA-256 다이제스트 (32바이트)
+-- ARGV[3]: 새 Refresh Token의 SHA-256 다이제스트
+-- ARGV[4]: 새 Refresh Token TTL (밀리초)
+-- ARGV[5]: 이전 단일 토큰 키 확인 여부 ('1' = sid 없는 이전 토큰)
+-- ARGV[6]: 제시된 Refresh Token 원문 (원문 저장 항목 인정 시에만 전달, 그 외 빈 값)
+-- 반환: 1 = 교체 성공, 0 = 불일치 또는 없음
+
+-- 일치하지 않는 위치와 무관하게 같은 시간이 걸리도록 모든 바이트를 비교
+local function constant_time_equals(a, b)
+    if #a ~= #b then
+        return false
+    end
+    local diff = 0
+    for i = 1, #a do
+        diff = bit.bor(diff, bit.bxor(string.byte(a, i), string.byte(b, i)))
+    end
+    return diff == 0
+end
+
+local matched = false
+local stored = redis.call('HGET', KEYS[1], ARGV[1])
+if stored then
+    matched = constant_time_equals(stored, ARGV[2])
+elseif ARGV[5] == '1' then
+    stored = redis.call('GET', KEYS[2])
+    if stored then
+        if #stored == 32 then
+            matched = constant_time_equals(stored, ARGV[2])
+        elseif #ARGV[6] > 0 then
+            matched = constant_time_equals(stored, ARGV[6])
+        end
+        if matched then
+            redis.call('DEL', KEYS[2])
+        end
+    end
+end
+
+if not matched then
+    return 0
+end
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+redis.call('HPEXPIRE', KEYS[1], ARGV[4], 'FIELDS', 1, ARGV[1])
+return 1
@@ -0,0 +1,25 @@
+-- 세션별 Refresh Token 저장
+-- KEYS[1]: refresh_sessions:{userId} (필드 = 세션 ID, 값 = Refresh Token 다이제스트)
+-- ARGV[1]: 세션 ID
+-- ARGV[2]: Refresh Token의 SHA-256 다이제스트
+-- ARGV[3]: TTL (밀리초, 필드 단위 만료)
+-- ARGV[4]: 사용자당 최대 세션 수 (초과 시 만료가 가장 빠른 세션부터 제거)
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+redis.call('HPEXPIRE', KEYS[1], ARGV[3], 'FIELDS', 1, ARGV[1])
+
+local fields = redis.call('HKEYS', KEYS[1])
+local overflow = #fields - tonumber(ARGV[4])
+if overflow > 0 then
+    local candidates = {}
+    for _, field in ipairs(fields) do
+        if field ~= ARGV[1] then
+            local expireAt = redis.call('HPEXPIRETIME', KEYS[1], 'FIELDS', 1, field)[1]
+            table.insert(candidates, { field, expireAt })
+        end
+    end
+    table.sort(candidates, function(a, b) return a[2] < b[2] end)
+    for i = 1, overflow do
+        redis.call('HDEL', KEYS[1], candidates[i][1])
+    end
+end
+return 1
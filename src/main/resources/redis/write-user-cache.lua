@@ -0,0 +1,12 @@
+-- 조회 시점 이후 무효화되지 않은 경우에만 사용자 캐시 항목 저장
+-- KEYS[1]: user:v3:{userId}
+-- KEYS[2]: user:v3:version:{userId}
+-- ARGV[1]: DB 조회 전에 읽은 버전 (없으면 빈 문자열)
+-- ARGV[2]: 사용자 스냅샷 JSON
+-- ARGV[3]: TTL (밀리초)
+local version = redis.call('GET', KEYS[2]) or ''
+if version ~= ARGV[1] then
+    return 0
+end
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+return 1
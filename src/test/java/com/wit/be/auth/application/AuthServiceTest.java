@@ -1,20 +1,32 @@
 package com.wit.be.auth.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.wit.be.auth.dto.request.SocialLoginRequest;
+import com.wit.be.auth.dto.request.TokenRefreshRequest;
 import com.wit.be.auth.dto.response.SocialLoginResponse;
+import com.wit.be.auth.dto.response.TokenRefreshResponse;
+import com.wit.be.common.exception.BusinessException;
 import com.wit.be.infra.oauth.dto.OAuthUserInfo;
 import com.wit.be.infra.oauth.validator.AppleOAuthValidator;
 import com.wit.be.infra.oauth.validator.GoogleOAuthValidator;
 import com.wit.be.infra.oauth.validator.KakaoOAuthValidator;
+import com.wit.be.infra.oauth.validator.OAuthValidationCoalescer;
+import com.wit.be.infra.oauth.validator.OAuthValidator;
+import com.wit.be.infra.redis.AccessTokenDenylist;
 import com.wit.be.infra.redis.RefreshTokenRepository;
+import com.wit.be.infra.security.exception.JwtErrorCode;
 import com.wit.be.infra.security.jwt.JwtUtil;
+import com.wit.be.infra.security.jwt.VerifiedRefreshToken;
+import com.wit.be.infra.security.jwt.VerifiedTokenCache;
 import com.wit.be.user.application.UserQueryService;
 import com.wit.be.user.application.UserService;
 import com.wit.be.user.domain.SocialType;
@@ -22,6 +34,7 @@ import com.wit.be.user.domain.User;
 import com.wit.be.user.domain.UserRole;
 import com.wit.be.user.domain.UserStatus;
 import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -41,9 +54,23 @@ class AuthServiceTest {
     @Mock private UserQueryService userQueryService;
     @Mock private JwtUtil jwtUtil;
     @Mock private RefreshTokenRepository refreshTokenRepository;
+    @Mock private VerifiedTokenCache verifiedTokenCache;
+    @Mock private AccessTokenDenylist accessTokenDenylist;
     @Mock private KakaoOAuthValidator kakaoOAuthValidator;
     @Mock private GoogleOAuthValidator googleOAuthValidator;
     @Mock private AppleOAuthValidator appleOAuthValidator;
+    @Mock private OAuthValidationCoalescer oAuthValidationCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        // 병합기는 전달받은 Validator에 그대로 위임
+        when(oAuthValidationCoalescer.validate(any(), any(), any()))
+                .thenAnswer(
+                        invocation ->
+                                invocation
+                                        .<OAuthValidator>getArgument(2)
+                                        .validate(invocation.getArgument(1)));
+    }
 
     @Test
     @DisplayName("Kakao 소셜 로그인 성공 - 신규 사용자")
@@ -60,8 +87,10 @@ class AuthServiceTest {
                         eq(SocialType.KAKAO), eq("kakao123"), eq("test@kakao.com")))
                 .thenReturn(user);
         // user.getId()가 null이므로 isNull() 매처 사용
-        when(jwtUtil.generateAccessToken(isNull(), any(List.class))).thenReturn("access-token");
-        when(jwtUtil.generateRefreshToken(isNull(), any(List.class))).thenReturn("refresh-token");
+        when(jwtUtil.generateAccessToken(isNull(), any(List.class), any()))
+                .thenReturn("access-token");
+        when(jwtUtil.generateRefreshToken(isNull(), any(List.class), any()))
+                .thenReturn("refresh-token");
         when(jwtUtil.getAccessTokenExpiration()).thenReturn(3600000L);
         when(jwtUtil.getRefreshTokenExpiration()).thenReturn(2592000000L);
 
@@ -70,6 +99,7 @@ class AuthServiceTest {
 
         // Then
         assertThat(response).isNotNull();
+        assertThat(response.sessionId()).isNotBlank();
         assertThat(response.accessToken()).isEqualTo("access-token");
         assertThat(response.refreshToken()).isEqualTo("refresh-token");
         assertThat(response.status()).isEqualTo(UserStatus.PENDING_AGREEMENT);
@@ -92,8 +122,10 @@ class AuthServiceTest {
         when(userService.findOrCreateUser(
                         eq(SocialType.GOOGLE), eq("google456"), eq("test@gmail.com")))
                 .thenReturn(user);
-        when(jwtUtil.generateAccessToken(isNull(), any(List.class))).thenReturn("access-token");
-        when(jwtUtil.generateRefreshToken(isNull(), any(List.class))).thenReturn("refresh-token");
+        when(jwtUtil.generateAccessToken(isNull(), any(List.class), any()))
+                .thenReturn("access-token");
+        when(jwtUtil.generateRefreshToken(isNull(), any(List.class), any()))
+                .thenReturn("refresh-token");
         when(jwtUtil.getAccessTokenExpiration()).thenReturn(3600000L);
         when(jwtUtil.getRefreshTokenExpiration()).thenReturn(2592000000L);
 
@@ -105,16 +137,93 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("로그아웃 성공")
+    @DisplayName("토큰 재발급 성공 - Refresh Token 교체")
+    void refresh_Success() {
+        // Given
+        TokenRefreshRequest request = new TokenRefreshRequest("old-refresh-token");
+        List<String> roles = List.of("ROLE_USER");
+
+        when(jwtUtil.verifyRefreshToken("old-refresh-token"))
+                .thenReturn(new VerifiedRefreshToken(1L, "session-1", roles));
+        when(jwtUtil.generateAccessToken(1L, roles, "session-1")).thenReturn("new-access-token");
+        when(jwtUtil.generateRefreshToken(1L, roles, "session-1"))
+                .thenReturn("new-refresh-token");
+        when(jwtUtil.getRefreshTokenExpiration()).thenReturn(2592000000L);
+        when(refreshTokenRepository.rotate(
+                        1L, "session-1", "old-refresh-token", "new-refresh-token", 2592000000L))
+                .thenReturn(true);
+
+        // When
+        TokenRefreshResponse response = authService.refresh(request);
+
+        // Then
+        assertThat(response.accessToken()).isEqualTo("new-access-token");
+        assertThat(response.refreshToken()).isEqualTo("new-refresh-token");
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 이미 사용한 Refresh Token")
+    void refresh_WhenTokenAlreadyRotated_ShouldThrow() {
+        // Given
+        TokenRefreshRequest request = new TokenRefreshRequest("used-refresh-token");
+        List<String> roles = List.of("ROLE_USER");
+
+        when(jwtUtil.verifyRefreshToken("used-refresh-token"))
+                .thenReturn(new VerifiedRefreshToken(1L, "session-1", roles));
+        when(jwtUtil.generateRefreshToken(1L, roles, "session-1"))
+                .thenReturn("new-refresh-token");
+        when(refreshTokenRepository.rotate(any(), any(), any(), any(), anyLong()))
+                .thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> authService.refresh(request))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(JwtErrorCode.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    @DisplayName("로그아웃 성공 - 현재 세션만 삭제")
     void logout_Success() {
         // Given
         Long userId = 1L;
+        when(jwtUtil.getTokenExpirationTime("access-token")).thenReturn(1800L);
+
+        // When
+        authService.logout(userId, "session-1", "access-token");
+
+        // Then
+        verify(refreshTokenRepository).deleteSession(userId, "session-1");
+        verify(refreshTokenRepository, never()).deleteAllSessions(any());
+        verify(accessTokenDenylist).revoke("access-token", 1800L);
+        verify(verifiedTokenCache).evictByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃 성공 - 모든 세션 삭제")
+    void logoutAll_Success() {
+        // Given
+        Long userId = 1L;
+        when(jwtUtil.getTokenExpirationTime("access-token")).thenReturn(1800L);
+
+        // When
+        authService.logoutAll(userId, "access-token");
 
+        // Then
+        verify(refreshTokenRepository).deleteAllSessions(userId);
+        verify(accessTokenDenylist).revoke("access-token", 1800L);
+        verify(verifiedTokenCache).evictByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("다른 기기 세션 폐기 - 해당 세션의 Refresh Token만 삭제")
+    void revokeSession_Success() {
         // When
-        authService.logout(userId);
+        authService.revokeSession(1L, "tablet");
 
         // Then
-        verify(refreshTokenRepository).deleteByUserId(userId);
+        verify(refreshTokenRepository).deleteSession(1L, "tablet");
+        verify(accessTokenDenylist, never()).revoke(any(), anyLong());
     }
 
     private User createTestUser(SocialType socialType, String providerId, String email) {
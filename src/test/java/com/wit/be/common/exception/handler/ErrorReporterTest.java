@@ -0,0 +1,47 @@
+package com.wit.be.common.exception.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.infra.properties.ErrorLogProperties;
+import com.wit.be.infra.security.exception.JwtErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ErrorReporterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ErrorReporter errorReporter =
+            new ErrorReporter(meterRegistry, new ErrorLogProperties(Duration.ofHours(1), 2, 3));
+
+    @Test
+    @DisplayName("한도까지는 모두 로그를 남기고, 이후에는 표본만 남기되 모든 에러를 집계")
+    void report_ShouldLimitAndSampleLogsButCountAll() {
+        // When
+        List<Boolean> logged = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            logged.add(errorReporter.report(new BusinessException(JwtErrorCode.EXPIRED_TOKEN)));
+        }
+
+        // Then
+        assertThat(logged).containsExactly(true, true, false, false, true, false, false, true);
+        assertThat(meterRegistry.get("app.errors").tag("code", "JWT__002").counter().count())
+                .isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("에러 코드마다 한도를 따로 적용")
+    void report_ShouldApplyLimitPerErrorCode() {
+        // Given
+        errorReporter.report(new BusinessException(JwtErrorCode.EXPIRED_TOKEN));
+        errorReporter.report(new BusinessException(JwtErrorCode.EXPIRED_TOKEN));
+
+        // When & Then
+        assertThat(errorReporter.report(new BusinessException(JwtErrorCode.INVALID_TOKEN)))
+                .isTrue();
+    }
+}
@@ -0,0 +1,103 @@
+package com.wit.be.common.exception.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.common.exception.dto.ErrorResponse;
+import com.wit.be.common.response.BaseResponse;
+import com.wit.be.infra.oauth.exception.OAuthErrorCode;
+import com.wit.be.infra.security.exception.JwtErrorCode;
+import com.wit.be.user.exception.UserErrorCode;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+class ErrorResponseRendererTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+    private final ErrorResponseRenderer renderer =
+            new ErrorResponseRenderer(jsonMapper, cborMapper);
+
+    @Test
+    @DisplayName("미리 직렬화한 본문은 BaseResponse 직렬화 결과와 같고 응답 시각만 채워짐")
+    void body_ShouldMatchSerializedBaseResponse() {
+        // Given
+        BaseResponse<ErrorResponse> expected =
+                BaseResponse.fail(
+                        401,
+                        ErrorResponse.of(
+                                JwtErrorCode.EXPIRED_TOKEN.getCode(),
+                                JwtErrorCode.EXPIRED_TOKEN.getMessage()));
+
+        // When
+        ObjectNode actual =
+                (ObjectNode) jsonMapper.readTree(renderer.body(JwtErrorCode.EXPIRED_TOKEN));
+
+        // Then
+        LocalDateTime timestamp = LocalDateTime.parse(actual.remove("timestamp").asString());
+        assertThat(timestamp).isBeforeOrEqualTo(LocalDateTime.now());
+
+        ObjectNode serialized = (ObjectNode) jsonMapper.valueToTree(expected);
+        serialized.remove("timestamp");
+        assertThat(actual).isEqualTo(serialized);
+    }
+
+    @Test
+    @DisplayName("다른 모듈의 에러 코드도 같은 형식으로 응답")
+    void body_ShouldRenderErrorCodesOfAllModules() {
+        // When
+        JsonNode body = jsonMapper.readTree(renderer.body(UserErrorCode.USER_NOT_FOUND));
+
+        // Then
+        assertThat(body.get("success").asBoolean()).isFalse();
+        assertThat(body.get("status").asInt())
+                .isEqualTo(UserErrorCode.USER_NOT_FOUND.getHttpStatus().value());
+        assertThat(body.get("data").get("code").asString())
+                .isEqualTo(UserErrorCode.USER_NOT_FOUND.getCode());
+    }
+
+    @Test
+    @DisplayName("스택 트레이스는 에러 코드가 요청한 경우에만 생성")
+    void businessException_ShouldCaptureStackTraceOnlyWhenRequested() {
+        // When
+        BusinessException expired = new BusinessException(JwtErrorCode.EXPIRED_TOKEN);
+        BusinessException serverError = new BusinessException(OAuthErrorCode.OAUTH_SERVER_ERROR);
+
+        // Then
+        assertThat(expired.getStackTrace()).isEmpty();
+        assertThat(serverError.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("CBOR를 요청하면 필터 응답도 같은 내용과 밀리초 응답 시각을 CBOR로 씀")
+    void write_WhenCborAccepted_ShouldWriteCbor() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT, "application/cbor");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        renderer.write(request, response, JwtErrorCode.EXPIRED_TOKEN);
+
+        // Then
+        assertThat(response.getContentType()).isEqualTo("application/cbor");
+        ObjectNode body = (ObjectNode) cborMapper.readTree(response.getContentAsByteArray());
+        ObjectNode json =
+                (ObjectNode) jsonMapper.readTree(renderer.body(JwtErrorCode.EXPIRED_TOKEN));
+        LocalDateTime timestamp = LocalDateTime.parse(body.remove("timestamp").asString());
+        assertThat(timestamp.getNano() % 1_000_000).isZero();
+        json.remove("timestamp");
+        assertThat(body).isEqualTo(json);
+        assertThat(response.getContentAsByteArray().length)
+                .isLessThan(renderer.body(JwtErrorCode.EXPIRED_TOKEN).length);
+    }
+}
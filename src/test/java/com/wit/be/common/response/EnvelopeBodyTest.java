@@ -0,0 +1,125 @@
+package com.wit.be.common.response;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wit.be.terms.domain.TermsType;
+import com.wit.be.terms.dto.response.TermsResponse;
+import com.wit.be.user.domain.SocialType;
+import com.wit.be.user.domain.UserStatus;
+import com.wit.be.user.dto.response.UserResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+class EnvelopeBodyTest {
+
+    private static final String TIMESTAMP = "2026-01-02T03:04:05.678";
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    @DisplayName("약관 목록 응답이 골든 파일, BaseResponse 직렬화 결과와 바이트 단위로 같음")
+    void serialize_TermsList_ShouldMatchGoldenFile() throws IOException {
+        // Given
+        List<TermsResponse> terms =
+                List.of(
+                        new TermsResponse(
+                                "terms-service",
+                                TermsType.TERMS_OF_SERVICE,
+                                "서비스 이용약관",
+                                "https://wit.notion.site/terms/terms-of-service/v1.0",
+                                "v1.0",
+                                true),
+                        new TermsResponse(
+                                "terms-marketing",
+                                TermsType.MARKETING,
+                                "마케팅 \"수신\" 동의",
+                                "https://wit.notion.site/terms/marketing/v2.0",
+                                "v2.0",
+                                false));
+
+        // When & Then
+        assertGolden("terms-list.json", 200, terms);
+    }
+
+    @Test
+    @DisplayName("null 필드와 날짜를 포함한 응답도 골든 파일과 같음")
+    void serialize_UserWithNulls_ShouldMatchGoldenFile() throws IOException {
+        // Given
+        UserResponse user =
+                new UserResponse(
+                        "user-1",
+                        SocialType.KAKAO,
+                        null,
+                        "위트",
+                        null,
+                        LocalDate.of(2000, 2, 29),
+                        null,
+                        UserStatus.ACTIVE);
+
+        // When & Then
+        assertGolden("user.json", 201, user);
+        assertGolden("empty-list.json", 200, List.of());
+    }
+
+    @Test
+    @DisplayName("큰 목록도 모든 요소를 순서대로 씀")
+    void serialize_LargeList_ShouldWriteAllElements() {
+        // Given
+        List<Integer> numbers = IntStream.range(0, 100_000).boxed().toList();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        jsonMapper.writeValue(out, EnvelopeBody.success(200, numbers, TIMESTAMP));
+
+        // Then
+        JsonNode data = jsonMapper.readTree(out.toByteArray()).get("data");
+        assertThat(data.size()).isEqualTo(numbers.size());
+        assertThat(data.get(99_999).asInt()).isEqualTo(99_999);
+    }
+
+    @Test
+    @DisplayName("실패 응답도 BaseResponse와 같은 필드를 밀리초 응답 시각으로 씀")
+    void serialize_Fail_ShouldMatchBaseResponse() {
+        // Given
+        Map<String, String> error = Map.of("code", "G001", "message", "잘못된 입력값입니다.");
+
+        // When
+        ObjectNode actual = (ObjectNode) jsonMapper.valueToTree(EnvelopeBody.fail(400, error));
+
+        // Then
+        LocalDateTime timestamp = LocalDateTime.parse(actual.remove("timestamp").asString());
+        assertThat(timestamp.getNano() % 1_000_000).isZero();
+        ObjectNode expected = (ObjectNode) jsonMapper.valueToTree(BaseResponse.fail(400, error));
+        expected.remove("timestamp");
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void assertGolden(String name, int status, Object data) throws IOException {
+        String golden = readGolden(name);
+        BaseResponse<Object> legacy =
+                new BaseResponse<>(true, status, data, LocalDateTime.parse(TIMESTAMP));
+
+        assertThat(jsonMapper.writeValueAsString(legacy)).isEqualTo(golden);
+        assertThat(jsonMapper.writeValueAsString(EnvelopeBody.success(status, data, TIMESTAMP)))
+                .isEqualTo(golden);
+    }
+
+    private static String readGolden(String name) throws IOException {
+        try (InputStream in =
+                EnvelopeBodyTest.class.getResourceAsStream("/golden/envelope/" + name)) {
+            return new String(in.readAllBytes(), UTF_8).strip();
+        }
+    }
+}
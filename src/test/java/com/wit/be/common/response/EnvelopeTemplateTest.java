@@ -0,0 +1,63 @@
+package com.wit.be.common.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+class EnvelopeTemplateTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+
+    private final List<Map<String, Object>> data = List.of(Map.of("id", "terms-1", "order", 1));
+
+    @Test
+    @DisplayName("JSON 템플릿은 BaseResponse와 같은 본문에 현재 응답 시각을 채움")
+    void render_Json_ShouldFillCurrentTimestamp() {
+        // Given
+        EnvelopeTemplate template = EnvelopeTemplate.success(jsonMapper, 200, data);
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+
+        // When
+        ObjectNode actual = (ObjectNode) jsonMapper.readTree(template.render());
+
+        // Then
+        LocalDateTime timestamp = LocalDateTime.parse(actual.remove("timestamp").asString());
+        assertThat(timestamp).isAfter(before);
+        assertThat(actual).isEqualTo(expected(true));
+    }
+
+    @Test
+    @DisplayName("CBOR 템플릿은 응답 시각 길이가 달라도 길이 헤더를 다시 써서 디코딩됨")
+    void render_Cbor_ShouldRewriteLengthHeader() {
+        // Given
+        EnvelopeTemplate template = EnvelopeTemplate.fail(cborMapper, 400, data);
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+
+        // When
+        ObjectNode actual = (ObjectNode) cborMapper.readTree(template.render());
+
+        // Then
+        LocalDateTime timestamp = LocalDateTime.parse(actual.remove("timestamp").asString());
+        assertThat(timestamp).isAfter(before);
+        assertThat(actual).isEqualTo(expected(false));
+    }
+
+    private JsonNode expected(boolean success) {
+        ObjectNode expected =
+                (ObjectNode)
+                        jsonMapper.valueToTree(
+                                new BaseResponse<>(
+                                        success, success ? 200 : 400, data, LocalDateTime.now()));
+        expected.remove("timestamp");
+        return expected;
+    }
+}
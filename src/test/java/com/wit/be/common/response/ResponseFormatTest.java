@@ -0,0 +1,41 @@
+package com.wit.be.common.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResponseFormatTest {
+
+    @Test
+    @DisplayName("Accept가 없거나 CBOR를 언급하지 않으면 JSON")
+    void negotiate_WhenCborNotRequested_ShouldReturnJson() {
+        // When & Then
+        assertThat(ResponseFormat.negotiate(null)).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("*/*")).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("application/json")).isEqualTo(ResponseFormat.JSON);
+    }
+
+    @Test
+    @DisplayName("CBOR가 JSON보다 우선이면 CBOR")
+    void negotiate_WhenCborPreferred_ShouldReturnCbor() {
+        // When & Then
+        assertThat(ResponseFormat.negotiate("application/cbor")).isEqualTo(ResponseFormat.CBOR);
+        assertThat(ResponseFormat.negotiate("application/cbor, */*"))
+                .isEqualTo(ResponseFormat.CBOR);
+        assertThat(ResponseFormat.negotiate("application/json;q=0.5, application/cbor"))
+                .isEqualTo(ResponseFormat.CBOR);
+    }
+
+    @Test
+    @DisplayName("JSON이 먼저이거나 품질값이 높으면 JSON")
+    void negotiate_WhenJsonPreferred_ShouldReturnJson() {
+        // When & Then
+        assertThat(ResponseFormat.negotiate("application/json, application/cbor"))
+                .isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("application/json, application/cbor;q=0.5"))
+                .isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("application/cbor;q=0, */*"))
+                .isEqualTo(ResponseFormat.JSON);
+    }
+}
@@ -0,0 +1,81 @@
+package com.wit.be.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.f4b6a3.ulid.Ulid;
+import com.wit.be.common.entity.PublicIdConverter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PublicIdGeneratorTest {
+
+    private static final int THREADS = 32;
+    private static final int IDS_PER_THREAD = 10_000;
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복 없음")
+    void generate_Concurrently_ShouldBeUnique() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        List<Future<?>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < THREADS; i++) {
+            results.add(
+                    executor.submit(
+                            () -> {
+                                start.await();
+                                for (int j = 0; j < IDS_PER_THREAD; j++) {
+                                    ids.add(PublicIdGenerator.generate());
+                                }
+                                return null;
+                            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(ids).hasSize(THREADS * IDS_PER_THREAD);
+        assertThat(ids).allSatisfy(id -> assertThat(Ulid.isValid(id)).isTrue());
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서는 단조 증가")
+    void generate_InSameThread_ShouldBeMonotonic() {
+        // When
+        String previous = PublicIdGenerator.generate();
+        for (int i = 0; i < IDS_PER_THREAD; i++) {
+            String next = PublicIdGenerator.generate();
+
+            // Then
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("UUID로 저장했다가 읽어도 같은 문자열")
+    void converter_ShouldRoundTrip() {
+        // Given
+        PublicIdConverter converter = new PublicIdConverter();
+        String publicId = PublicIdGenerator.generate();
+
+        // When & Then
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(publicId)))
+                .isEqualTo(publicId);
+    }
+}
@@ -0,0 +1,131 @@
+package com.wit.be.infra.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** 서로 다른 H2 DB를 주 DB와 복제본으로 두고 어느 DB에서 읽었는지 확인합니다. */
+class ReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        routingDataSource =
+                new ReplicaRoutingDataSource(
+                        primary, List.of(replica), tracker, new SimpleMeterRegistry());
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routingDataSource);
+
+        DataSourceTransactionManager transactionManager =
+                new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(tracker);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        routingDataSource.close();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 그 외는 주 DB에서 실행")
+    void readOnlyTransaction_ShouldUseReplica() {
+        // When & Then
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제본에 연결할 수 없으면 주 DB로 전환하고, 상태 확인을 통과하기 전까지 복제본을 건너뜀")
+    void readOnlyTransaction_WhenReplicaDown_ShouldFallBackToPrimary() {
+        // Given
+        replica.close();
+
+        // When & Then
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+        routingDataSource.checkHealth();
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자는 잠시 주 DB에서 읽고, 다른 사용자는 복제본에서 읽음")
+    void readOnlyTransaction_AfterOwnWrite_ShouldReadFromPrimary() {
+        // Given
+        authenticate("1");
+        readWrite.executeWithoutResult(
+                status -> jdbcTemplate.update("UPDATE node SET name = 'primary-updated'"));
+
+        // When & Then
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary-updated");
+
+        authenticate("2");
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("주 DB 읽기로 표시한 작업은 읽기 전용이어도 주 DB에서 실행")
+    void onPrimary_ShouldBypassReplica() {
+        // When
+        String node =
+                DataSourceRouting.onPrimary(() -> readOnly.execute(status -> currentNode()));
+
+        // Then
+        assertThat(node).isEqualTo("primary");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static void authenticate(String userId) {
+        User principal = new User(userId, "", List.of());
+        SecurityContextHolder.getContext()
+                .setAuthentication(
+                        new UsernamePasswordAuthenticationToken(
+                                principal, null, principal.getAuthorities()));
+    }
+
+    private static HikariDataSource createDatabase(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setConnectionTimeout(250);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS node");
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
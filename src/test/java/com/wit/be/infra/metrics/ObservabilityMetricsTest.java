@@ -0,0 +1,60 @@
+package com.wit.be.infra.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wit.be.infra.oauth.dto.OAuthUserInfo;
+import com.wit.be.infra.oauth.validator.OAuthValidationCoalescer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class ObservabilityMetricsTest {
+
+    @Autowired private MeterRegistry meterRegistry;
+
+    @Autowired private OAuthValidationCoalescer oAuthValidationCoalescer;
+
+    @Test
+    @DisplayName("기동 시 JWT, Redis, 커넥션 풀, 이벤트 발행 기록 메트릭이 등록됨")
+    void startup_ShouldRegisterHotPathMetrics() {
+        // When & Then
+        assertThat(meterRegistry.find("jwt.validation").tag("outcome", "verified").counter())
+                .isNotNull();
+        assertThat(meterRegistry.find("jwt.validation").tag("outcome", "expired").counter())
+                .isNotNull();
+        assertThat(
+                        meterRegistry
+                                .find("redis.refresh-token.commands")
+                                .tag("command", "rotate")
+                                .timer())
+                .isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.active").gauge()).isNotNull();
+        assertThat(meterRegistry.find("modulith.events.incomplete").gauge()).isNotNull();
+        assertThat(meterRegistry.find("modulith.events.oldest-incomplete.age").gauge())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("공급자 검증 지연 시간은 공급자, 결과별로 기록됨")
+    void validate_ShouldRecordProviderLatency() {
+        // When
+        oAuthValidationCoalescer.validate(
+                "KAKAO",
+                "metrics-token",
+                token -> OAuthUserInfo.builder().providerId("metrics").build());
+
+        // Then
+        assertThat(
+                        meterRegistry
+                                .find("oauth.validation.provider")
+                                .tags("provider", "KAKAO", "outcome", "success")
+                                .timer())
+                .isNotNull()
+                .extracting(Timer::count)
+                .isEqualTo(1L);
+    }
+}
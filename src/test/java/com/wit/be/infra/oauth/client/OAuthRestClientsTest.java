@@ -0,0 +1,139 @@
+package com.wit.be.infra.oauth.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.infra.oauth.exception.OAuthErrorCode;
+import com.wit.be.infra.properties.OAuthHttpProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+class OAuthRestClientsTest {
+
+    private HttpServer server;
+    private CountDownLatch received;
+    private CountDownLatch release;
+    private MeterRegistry meterRegistry;
+    private OAuthRestClients oAuthRestClients;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        received = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(
+                "/slow",
+                exchange -> {
+                    received.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    exchange.sendResponseHeaders(204, -1);
+                    exchange.close();
+                });
+        server.createContext(
+                "/ok",
+                exchange -> {
+                    exchange.sendResponseHeaders(200, 2);
+                    exchange.getResponseBody().write("ok".getBytes(StandardCharsets.UTF_8));
+                    exchange.close();
+                });
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        oAuthRestClients =
+                new OAuthRestClients(
+                        RestClient.builder(),
+                        new OAuthHttpProperties(
+                                Duration.ofSeconds(5),
+                                Duration.ofSeconds(5),
+                                Map.of(
+                                        "kakao",
+                                        new OAuthHttpProperties.Limit(
+                                                1, Duration.ofMillis(50)))),
+                        meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        oAuthRestClients.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("공급자별 동시 요청 제한을 넘으면 대기 후 실패")
+    void forProvider_WhenLimitReached_ShouldReject() throws Exception {
+        // Given
+        RestClient kakao = oAuthRestClients.forProvider("kakao");
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/slow";
+        CompletableFuture<Void> inFlight =
+                CompletableFuture.runAsync(
+                        () -> kakao.get().uri(url).retrieve().toBodilessEntity());
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When & Then
+        assertThat(gauge("oauth.http.client.in-flight")).isEqualTo(1.0);
+        assertThatThrownBy(() -> kakao.get().uri(url).retrieve().toBodilessEntity())
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(OAuthErrorCode.OAUTH_SERVER_ERROR);
+        assertThat(
+                        meterRegistry
+                                .get("oauth.http.client.rejected")
+                                .tag("provider", "kakao")
+                                .counter()
+                                .count())
+                .isEqualTo(1.0);
+
+        release.countDown();
+        inFlight.get(5, TimeUnit.SECONDS);
+        assertThat(gauge("oauth.http.client.in-flight")).isZero();
+    }
+
+    @Test
+    @DisplayName("응답을 닫을 때까지 동시 요청 수에 포함")
+    void forProvider_ShouldHoldPermitUntilResponseClosed() {
+        // Given
+        RestClient kakao = oAuthRestClients.forProvider("kakao");
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/ok";
+
+        // When
+        double whileOpen =
+                kakao.get()
+                        .uri(url)
+                        .exchange(
+                                (request, response) -> gauge("oauth.http.client.in-flight"));
+
+        // Then
+        assertThat(whileOpen).isEqualTo(1.0);
+        assertThat(gauge("oauth.http.client.in-flight")).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 공급자는 같은 클라이언트를 공유")
+    void forProvider_SameProvider_ShouldReuseClient() {
+        assertThat(oAuthRestClients.forProvider("google"))
+                .isSameAs(oAuthRestClients.forProvider("google"));
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("provider", "kakao").gauge().value();
+    }
+}
@@ -0,0 +1,184 @@
+package com.wit.be.infra.oauth.jwks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.infra.oauth.exception.OAuthErrorCode;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+class JwksKeyRingTest {
+
+    private static final int BURST = 8;
+
+    private JwksStubServer jwksServer;
+    private KeyPair key1;
+    private KeyPair key2;
+    private MutableClock clock;
+    private JwksKeyRing keyRing;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwksServer = new JwksStubServer();
+        key1 = JwksStubServer.newKeyPair();
+        key2 = JwksStubServer.newKeyPair();
+        jwksServer.publish(Map.of("key-1", key1));
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        keyRing = new JwksKeyRing("google", jwksServer.url(), RestClient.create(), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwksServer.close();
+    }
+
+    @Test
+    @DisplayName("키가 없을 때 동시에 조회해도 JWKS는 한 번만 요청")
+    void getKey_ConcurrentFirstFetch_ShouldFetchOnce() throws Exception {
+        // Given
+        jwksServer.hold();
+        ExecutorService executor = Executors.newFixedThreadPool(BURST);
+        CountDownLatch started = new CountDownLatch(BURST);
+        List<Future<PublicKey>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < BURST; i++) {
+            results.add(
+                    executor.submit(
+                            () -> {
+                                started.countDown();
+                                return keyRing.getKey("key-1");
+                            }));
+        }
+        started.await(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        jwksServer.open();
+
+        // Then
+        for (Future<PublicKey> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(key1.getPublic());
+        }
+        assertThat(jwksServer.hits()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("모르는 kid는 마지막 조회 후 10초가 지나야 다시 조회")
+    void getKey_UnknownKid_ShouldRefetchAfterMinInterval() {
+        // Given
+        keyRing.getKey("key-1");
+        jwksServer.publish(Map.of("key-1", key1, "key-2", key2));
+
+        // When
+        PublicKey beforeInterval = keyRing.getKey("key-2");
+        clock.advance(Duration.ofSeconds(11));
+        PublicKey afterInterval = keyRing.getKey("key-2");
+        PublicKey unknown = keyRing.getKey("key-3");
+
+        // Then
+        assertThat(beforeInterval).isNull();
+        assertThat(afterInterval).isEqualTo(key2.getPublic());
+        assertThat(unknown).isNull();
+        assertThat(jwksServer.hits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회에 실패하면 30초 동안은 공급자를 호출하지 않고 바로 실패한 뒤 다시 조회")
+    void getKey_AfterFailedFetch_ShouldFailFastUntilRetryDelay() {
+        // Given
+        jwksServer.failWith(500);
+        assertThatThrownBy(() -> keyRing.getKey("key-1"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(OAuthErrorCode.OAUTH_SERVER_ERROR);
+        jwksServer.failWith(200);
+
+        // When & Then
+        clock.advance(Duration.ofSeconds(29));
+        assertThatThrownBy(() -> keyRing.getKey("key-1"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(OAuthErrorCode.OAUTH_SERVER_ERROR);
+        assertThat(jwksServer.hits()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(2));
+        assertThat(keyRing.getKey("key-1")).isEqualTo(key1.getPublic());
+        assertThat(jwksServer.hits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재조회에 실패해도 이미 받은 키는 계속 사용하고 10초 동안은 다시 조회하지 않음")
+    void getKey_WhenRefetchFails_ShouldKeepPreviousKeys() {
+        // Given
+        keyRing.getKey("key-1");
+        jwksServer.failWith(500);
+        clock.advance(Duration.ofSeconds(11));
+
+        // When & Then
+        assertThatThrownBy(() -> keyRing.getKey("key-2")).isInstanceOf(BusinessException.class);
+        assertThat(keyRing.getKey("key-2")).isNull();
+        assertThat(keyRing.getKey("key-1")).isEqualTo(key1.getPublic());
+        assertThat(jwksServer.hits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Cache-Control max-age는 5분~24시간으로 제한하고 없으면 1시간")
+    void parseMaxAge_ShouldClampToBounds() {
+        assertThat(JwksKeyRing.parseMaxAge(null)).isEqualTo(Duration.ofHours(1));
+        assertThat(JwksKeyRing.parseMaxAge("no-cache")).isEqualTo(Duration.ofHours(1));
+        assertThat(JwksKeyRing.parseMaxAge("public, max-age=7200"))
+                .isEqualTo(Duration.ofHours(2));
+        assertThat(JwksKeyRing.parseMaxAge("public, max-age=60"))
+                .isEqualTo(Duration.ofMinutes(5));
+        assertThat(JwksKeyRing.parseMaxAge("public, max-age=604800"))
+                .isEqualTo(Duration.ofHours(24));
+    }
+
+    /** 테스트에서 시각을 직접 옮기는 Clock. */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
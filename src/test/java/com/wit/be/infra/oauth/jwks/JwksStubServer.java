@@ -0,0 +1,129 @@
+package com.wit.be.infra.oauth.jwks;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** 테스트용 로컬 JWKS 서버. kid별 RSA 키를 발급하고 해당 키로 서명한 토큰을 만듭니다. */
+public class JwksStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile Map<String, KeyPair> keys = Map.of();
+    private volatile int status = 200;
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    public JwksStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(
+                "/jwks",
+                exchange -> {
+                    hits.incrementAndGet();
+                    awaitGate();
+                    byte[] body = toJwks().getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.getResponseHeaders().add("Cache-Control", "public, max-age=3600");
+                    exchange.sendResponseHeaders(status, body.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                });
+        server.start();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/jwks";
+    }
+
+    public int hits() {
+        return hits.get();
+    }
+
+    public void publish(Map<String, KeyPair> keys) {
+        this.keys = Map.copyOf(keys);
+    }
+
+    public void failWith(int status) {
+        this.status = status;
+    }
+
+    /** {@link #open()}을 호출할 때까지 응답을 보류합니다. */
+    public void hold() {
+        this.gate = new CountDownLatch(1);
+    }
+
+    public void open() {
+        gate.countDown();
+    }
+
+    public static KeyPair newKeyPair() {
+        return Jwts.SIG.RS256.keyPair().build();
+    }
+
+    public static String sign(
+            KeyPair keyPair, String kid, String issuer, String audience, Date expiration) {
+        return Jwts.builder()
+                .header()
+                .keyId(kid)
+                .and()
+                .issuer(issuer)
+                .audience()
+                .add(audience)
+                .and()
+                .subject("user-123")
+                .claim("email", "user@example.com")
+                .issuedAt(new Date())
+                .expiration(expiration)
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+
+    private String toJwks() {
+        StringBuilder json = new StringBuilder("{\"keys\":[");
+        keys.forEach(
+                (kid, keyPair) -> {
+                    RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+                    if (json.charAt(json.length() - 1) == '}') {
+                        json.append(',');
+                    }
+                    json.append("{\"kty\":\"RSA\",\"use\":\"sig\",\"alg\":\"RS256\",")
+                            .append("\"kid\":\"")
+                            .append(kid)
+                            .append("\",\"n\":\"")
+                            .append(base64Url(publicKey.getModulus()))
+                            .append("\",\"e\":\"")
+                            .append(base64Url(publicKey.getPublicExponent()))
+                            .append("\"}");
+                });
+        return json.append("]}").toString();
+    }
+
+    private void awaitGate() {
+        try {
+            gate.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String base64Url(BigInteger value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.toByteArray());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,137 @@
+package com.wit.be.infra.oauth.jwks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.infra.oauth.exception.OAuthErrorCode;
+import com.wit.be.infra.properties.OidcVerificationProperties;
+import com.wit.be.infra.properties.OidcVerificationProperties.Mode;
+import io.jsonwebtoken.Claims;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+class OidcIdTokenVerifierTest {
+
+    private static final String ISSUER = "https://accounts.google.com";
+    private static final String AUDIENCE = "wit-client-id";
+
+    private JwksStubServer jwksServer;
+    private KeyPair keyPair;
+    private OidcIdTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwksServer = new JwksStubServer();
+        keyPair = JwksStubServer.newKeyPair();
+        jwksServer.publish(Map.of("key-1", keyPair));
+        verifier =
+                new OidcIdTokenVerifier(
+                        "google",
+                        new OidcVerificationProperties(
+                                Mode.LOCAL,
+                                jwksServer.url(),
+                                List.of(ISSUER),
+                                List.of(AUDIENCE),
+                                Duration.ofSeconds(60)),
+                        RestClient.create());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwksServer.close();
+    }
+
+    @Test
+    @DisplayName("유효한 ID 토큰은 JWKS를 한 번만 조회하고 로컬에서 검증")
+    void verify_ValidToken_ShouldFetchJwksOnce() {
+        // Given
+        String token = JwksStubServer.sign(keyPair, "key-1", ISSUER, AUDIENCE, inMinutes(10));
+
+        // When
+        Claims first = verifier.verify(token);
+        Claims second = verifier.verify(token);
+
+        // Then
+        assertThat(first.getSubject()).isEqualTo("user-123");
+        assertThat(second.get("email", String.class)).isEqualTo("user@example.com");
+        assertThat(jwksServer.hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("aud가 다르면 검증 실패")
+    void verify_WrongAudience_ShouldThrow() {
+        // Given
+        String token =
+                JwksStubServer.sign(keyPair, "key-1", ISSUER, "other-client", inMinutes(10));
+
+        // When & Then
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(OAuthErrorCode.INVALID_ID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("iss가 다르면 검증 실패")
+    void verify_WrongIssuer_ShouldThrow() {
+        // Given
+        String token =
+                JwksStubServer.sign(
+                        keyPair, "key-1", "https://evil.example", AUDIENCE, inMinutes(10));
+
+        // When & Then
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(OAuthErrorCode.INVALID_ID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("허용 오차를 넘겨 만료된 토큰은 검증 실패")
+    void verify_ExpiredToken_ShouldThrow() {
+        // Given
+        String token = JwksStubServer.sign(keyPair, "key-1", ISSUER, AUDIENCE, inMinutes(-5));
+
+        // When & Then
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(OAuthErrorCode.INVALID_ID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("JWKS 조회에 실패하면 OAUTH_SERVER_ERROR")
+    void verify_JwksUnavailable_ShouldThrowServerError() {
+        // Given
+        jwksServer.failWith(503);
+        String token = JwksStubServer.sign(keyPair, "key-1", ISSUER, AUDIENCE, inMinutes(10));
+
+        // When & Then
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(OAuthErrorCode.OAUTH_SERVER_ERROR);
+    }
+
+    @Test
+    @DisplayName("서명된 JWT 형태만 로컬 검증 대상")
+    void isJws_ShouldDetectCompactJws() {
+        assertThat(OidcIdTokenVerifier.isJws("a.b.c")).isTrue();
+        assertThat(OidcIdTokenVerifier.isJws("opaque-access-token")).isFalse();
+        assertThat(OidcIdTokenVerifier.isJws("a..c")).isFalse();
+        assertThat(OidcIdTokenVerifier.isJws("a.b.")).isFalse();
+    }
+
+    private static Date inMinutes(int minutes) {
+        return new Date(System.currentTimeMillis() + Duration.ofMinutes(minutes).toMillis());
+    }
+}
@@ -0,0 +1,107 @@
+package com.wit.be.infra.oauth.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wit.be.infra.oauth.client.OAuthHttpClient;
+import com.wit.be.infra.oauth.client.OAuthRestClients;
+import com.wit.be.infra.oauth.dto.GoogleTokenResponse;
+import com.wit.be.infra.oauth.dto.OAuthUserInfo;
+import com.wit.be.infra.oauth.jwks.JwksStubServer;
+import com.wit.be.infra.properties.GoogleOAuthProperties;
+import com.wit.be.infra.properties.OAuthHttpProperties;
+import com.wit.be.infra.properties.OidcVerificationProperties;
+import com.wit.be.infra.properties.OidcVerificationProperties.Mode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+class GoogleOAuthValidatorTest {
+
+    private static final String ISSUER = "https://accounts.google.com";
+    private static final String AUDIENCE = "wit-client-id";
+
+    private JwksStubServer jwksServer;
+    private KeyPair keyPair;
+    private OAuthHttpClient oAuthHttpClient;
+    private GoogleOAuthValidator validator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwksServer = new JwksStubServer();
+        keyPair = JwksStubServer.newKeyPair();
+        jwksServer.publish(Map.of("key-1", keyPair));
+        oAuthHttpClient = mock(OAuthHttpClient.class);
+        validator =
+                new GoogleOAuthValidator(
+                        oAuthHttpClient,
+                        new GoogleOAuthProperties(
+                                "https://oauth2.googleapis.com",
+                                new OidcVerificationProperties(
+                                        Mode.LOCAL,
+                                        jwksServer.url(),
+                                        List.of(ISSUER),
+                                        List.of(AUDIENCE),
+                                        Duration.ofSeconds(60))),
+                        new OAuthRestClients(
+                                RestClient.builder(),
+                                new OAuthHttpProperties(
+                                        Duration.ofSeconds(5), Duration.ofSeconds(5), Map.of()),
+                                new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwksServer.close();
+    }
+
+    @Test
+    @DisplayName("local 모드에서는 tokeninfo를 호출하지 않음")
+    void validate_LocalMode_ShouldNotCallTokenInfo() {
+        // Given
+        String token = JwksStubServer.sign(keyPair, "key-1", ISSUER, AUDIENCE, inTenMinutes());
+
+        // When
+        OAuthUserInfo userInfo = validator.validate(token);
+
+        // Then
+        assertThat(userInfo.providerId()).isEqualTo("user-123");
+        assertThat(userInfo.email()).isEqualTo("user@example.com");
+        verify(oAuthHttpClient, never()).getGoogleTokenInfo(anyString());
+    }
+
+    @Test
+    @DisplayName("JWKS 조회 실패 시 tokeninfo로 대체")
+    void validate_JwksUnavailable_ShouldFallBackToTokenInfo() {
+        // Given
+        jwksServer.failWith(500);
+        String token = JwksStubServer.sign(keyPair, "key-1", ISSUER, AUDIENCE, inTenMinutes());
+        when(oAuthHttpClient.getGoogleTokenInfo(token))
+                .thenReturn(
+                        new GoogleTokenResponse(
+                                "user-123", "user@example.com", "true", AUDIENCE, ISSUER, "0"));
+
+        // When
+        OAuthUserInfo userInfo = validator.validate(token);
+
+        // Then
+        assertThat(userInfo.providerId()).isEqualTo("user-123");
+        verify(oAuthHttpClient).getGoogleTokenInfo(token);
+    }
+
+    private static Date inTenMinutes() {
+        return new Date(System.currentTimeMillis() + Duration.ofMinutes(10).toMillis());
+    }
+}
@@ -0,0 +1,163 @@
+package com.wit.be.infra.oauth.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.infra.oauth.dto.OAuthUserInfo;
+import com.wit.be.infra.oauth.exception.OAuthErrorCode;
+import com.wit.be.infra.properties.OAuthValidationCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class OAuthValidationCoalescerTest {
+
+    private static final int BURST = 16;
+
+    private OAuthValidationCoalescer coalescer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        coalescer =
+                new OAuthValidationCoalescer(
+                        new OAuthValidationCacheProperties(
+                                true, Duration.ofSeconds(30), 1_000L, false),
+                        mock(RedisTemplate.class),
+                        new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 동시에 N번 로그인해도 공급자 호출은 한 번")
+    void validate_ConcurrentBurst_ShouldCallProviderOnce() throws Exception {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        OAuthValidator slowValidator =
+                token -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return new OAuthUserInfo("kakao123", "test@kakao.com");
+                };
+
+        ExecutorService executor = Executors.newFixedThreadPool(BURST);
+        CountDownLatch started = new CountDownLatch(BURST);
+        List<Future<OAuthUserInfo>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < BURST; i++) {
+            results.add(
+                    executor.submit(
+                            () -> {
+                                started.countDown();
+                                return coalescer.validate("KAKAO", "same-token", slowValidator);
+                            }));
+        }
+        started.await(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        for (Future<OAuthUserInfo> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).providerId()).isEqualTo("kakao123");
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공한 결과는 TTL 동안 재사용")
+    void validate_WhenCached_ShouldNotCallProviderAgain() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        OAuthValidator validator =
+                token -> {
+                    calls.incrementAndGet();
+                    return new OAuthUserInfo("google456", null);
+                };
+
+        // When
+        coalescer.validate("GOOGLE", "token", validator);
+        coalescer.validate("GOOGLE", "token", validator);
+
+        // Then
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 검증은 캐시하지 않음")
+    void validate_WhenFailed_ShouldNotCache() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        OAuthValidator failing =
+                token -> {
+                    calls.incrementAndGet();
+                    throw new BusinessException(OAuthErrorCode.INVALID_ID_TOKEN);
+                };
+
+        // When & Then
+        assertThatThrownBy(() -> coalescer.validate("KAKAO", "bad", failing))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> coalescer.validate("KAKAO", "bad", failing))
+                .isInstanceOf(BusinessException.class);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검증 중 Error가 나도 대기 중인 요청이 끝나고 다음 검증은 다시 호출")
+    void validate_WhenValidatorThrowsError_ShouldReleaseWaiters() throws Exception {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        OAuthValidator crashing =
+                token -> {
+                    if (calls.incrementAndGet() == 1) {
+                        entered.countDown();
+                        await(release);
+                    }
+                    throw new StackOverflowError();
+                };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<OAuthUserInfo> leader =
+                executor.submit(() -> coalescer.validate("KAKAO", "crash", crashing));
+        entered.await(5, TimeUnit.SECONDS);
+        Future<OAuthUserInfo> waiter =
+                executor.submit(() -> coalescer.validate("KAKAO", "crash", crashing));
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(StackOverflowError.class);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> coalescer.validate("KAKAO", "crash", crashing))
+                .isInstanceOf(StackOverflowError.class);
+        assertThat(calls.get()).isEqualTo(2);
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.wit.be.infra.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wit.be.common.util.TokenHasher;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DigestBloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+
+    @Test
+    @DisplayName("추가한 다이제스트는 항상 포함, 추가하지 않은 다이제스트의 오탐률은 설정값 수준")
+    void mightContain_ShouldHaveNoFalseNegatives() {
+        // Given
+        DigestBloomFilter filter = new DigestBloomFilter(INSERTIONS, 0.001, Duration.ofHours(1));
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put(TokenHasher.sha256("revoked-" + i));
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertThat(filter.mightContain(TokenHasher.sha256("revoked-" + i))).isTrue();
+            if (filter.mightContain(TokenHasher.sha256("active-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives).isLessThan(INSERTIONS / 200);
+    }
+
+    @Test
+    @DisplayName("항목은 최소 한 세대 주기 동안 유지되고 두 번째 교체 때 제거")
+    void rotate_ShouldKeepEntriesForOneFullGeneration() throws InterruptedException {
+        // Given
+        DigestBloomFilter filter = new DigestBloomFilter(100, 0.001, Duration.ofMillis(100));
+        byte[] digest = TokenHasher.sha256("revoked");
+        filter.put(digest);
+
+        // When & Then
+        Thread.sleep(150);
+        assertThat(filter.mightContain(digest)).isTrue();
+        Thread.sleep(150);
+        assertThat(filter.mightContain(digest)).isFalse();
+    }
+}
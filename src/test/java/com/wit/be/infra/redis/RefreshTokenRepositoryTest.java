@@ -0,0 +1,227 @@
+package com.wit.be.infra.redis;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.wit.be.infra.properties.RefreshTokenStoreProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/** 실제 Redis(Testcontainers)로 Lua 스크립트 동작을 검증합니다. Docker가 없으면 건너뜁니다. */
+class RefreshTokenRepositoryTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String KEY = "refresh_sessions:" + USER_ID;
+    private static final String LEGACY_KEY = "refresh_token:" + USER_ID;
+    private static final String SESSION = "phone";
+    private static final long TTL_MS = 60_000L;
+    private static final int CONCURRENT_REQUESTS = 32;
+
+    private static GenericContainer<?> redis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, byte[]> redisTemplate;
+
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeAll
+    static void startRedis() {
+        assumeTrue(
+                DockerClientFactory.instance().isDockerAvailable(), "Docker is not available");
+
+        // 해시 필드 단위 만료(HPEXPIRE)는 Redis 7.4부터 지원
+        redis = new GenericContainer<>(DockerImageName.parse("redis:7.4-alpine"));
+        redis.withExposedPorts(6379).start();
+
+        connectionFactory =
+                new LettuceConnectionFactory(
+                        new RedisStandaloneConfiguration(
+                                redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = repository(false, 10);
+        refreshTokenRepository.deleteAllSessions(USER_ID);
+    }
+
+    @Test
+    @DisplayName("저장된 토큰과 일치하면 교체하고 TTL 재설정")
+    void rotate_WhenMatches_ShouldSwapToken() {
+        // Given
+        refreshTokenRepository.save(USER_ID, SESSION, "old-token", 1_000L);
+
+        // When
+        boolean rotated =
+                refreshTokenRepository.rotate(USER_ID, SESSION, "old-token", "new-token", TTL_MS);
+
+        // Then
+        assertThat(rotated).isTrue();
+        assertThat(refreshTokenRepository.matches(USER_ID, SESSION, "new-token")).isTrue();
+        assertThat(refreshTokenRepository.findSessions(USER_ID).getFirst().expiresAt())
+                .isAfter(Instant.now().plusSeconds(30));
+    }
+
+    @Test
+    @DisplayName("이미 사용한 토큰이나 없는 세션은 교체 실패")
+    void rotate_WhenMismatchOrMissing_ShouldFail() {
+        // Given
+        refreshTokenRepository.save(USER_ID, SESSION, "current-token", TTL_MS);
+
+        // When & Then
+        assertThat(
+                        refreshTokenRepository.rotate(
+                                USER_ID, SESSION, "used-token", "new-token", TTL_MS))
+                .isFalse();
+        assertThat(refreshTokenRepository.matches(USER_ID, SESSION, "current-token")).isTrue();
+        assertThat(
+                        refreshTokenRepository.rotate(
+                                USER_ID, "tablet", "current-token", "new-token", TTL_MS))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 Refresh Token으로 동시에 요청하면 하나만 성공")
+    void rotate_Concurrently_ShouldHaveExactlyOneWinner() throws Exception {
+        // Given
+        refreshTokenRepository.save(USER_ID, SESSION, "shared-token", TTL_MS);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            String newToken = "new-token-" + i;
+            results.add(
+                    executor.submit(
+                            () -> {
+                                start.await();
+                                return refreshTokenRepository.rotate(
+                                        USER_ID, SESSION, "shared-token", newToken, TTL_MS);
+                            }));
+        }
+        start.countDown();
+
+        List<String> winners = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            if (results.get(i).get(10, TimeUnit.SECONDS)) {
+                winners.add("new-token-" + i);
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(winners).hasSize(1);
+        assertThat(refreshTokenRepository.matches(USER_ID, SESSION, winners.getFirst())).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰 원문 대신 32바이트 다이제스트만 저장")
+    void save_ShouldStoreDigestOnly() {
+        // When
+        refreshTokenRepository.save(USER_ID, SESSION, "a".repeat(300), TTL_MS);
+
+        // Then
+        assertThat((byte[]) redisTemplate.opsForHash().get(KEY, SESSION)).hasSize(32);
+    }
+
+    @Test
+    @DisplayName("기기별 세션은 서로 독립적으로 유지되고 개별/전체 삭제 가능")
+    void sessions_ShouldBeIndependentPerDevice() {
+        // Given
+        refreshTokenRepository.save(USER_ID, "phone", "phone-token", TTL_MS);
+        refreshTokenRepository.save(USER_ID, "tablet", "tablet-token", TTL_MS);
+
+        // When
+        refreshTokenRepository.deleteSession(USER_ID, "phone");
+
+        // Then
+        assertThat(refreshTokenRepository.matches(USER_ID, "phone", "phone-token")).isFalse();
+        assertThat(refreshTokenRepository.matches(USER_ID, "tablet", "tablet-token")).isTrue();
+        assertThat(refreshTokenRepository.findSessions(USER_ID))
+                .extracting(RefreshSession::sessionId)
+                .containsExactly("tablet");
+
+        refreshTokenRepository.deleteAllSessions(USER_ID);
+        assertThat(refreshTokenRepository.findSessions(USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 세션 수를 넘으면 만료가 가장 빠른 세션부터 제거")
+    void save_WhenOverLimit_ShouldEvictSoonestExpiring() {
+        // Given
+        RefreshTokenRepository limited = repository(false, 2);
+        limited.save(USER_ID, "old", "old-token", 10_000L);
+        limited.save(USER_ID, "phone", "phone-token", TTL_MS);
+
+        // When
+        limited.save(USER_ID, "tablet", "tablet-token", TTL_MS);
+
+        // Then
+        assertThat(limited.findSessions(USER_ID))
+                .extracting(RefreshSession::sessionId)
+                .containsExactlyInAnyOrder("phone", "tablet");
+    }
+
+    @Test
+    @DisplayName("sid 없는 이전 토큰은 기본 세션으로 옮기고 원문 항목은 전환 기간에만 인정")
+    void rotate_LegacyEntry_ShouldMigrateOnlyWhenEnabled() {
+        // Given
+        redisTemplate.opsForValue().set(LEGACY_KEY, "legacy-token".getBytes(UTF_8));
+        RefreshTokenRepository legacyAware = repository(true, 10);
+
+        // When & Then
+        assertThat(refreshTokenRepository.rotate(USER_ID, null, "legacy-token", "new", TTL_MS))
+                .isFalse();
+        assertThat(legacyAware.rotate(USER_ID, null, "legacy-token", "new", TTL_MS)).isTrue();
+        assertThat(redisTemplate.hasKey(LEGACY_KEY)).isFalse();
+        assertThat(refreshTokenRepository.matches(USER_ID, "default", "new")).isTrue();
+    }
+
+    private RefreshTokenRepository repository(boolean legacyReadEnabled, int maxSessions) {
+        return new RefreshTokenRepository(
+                redisTemplate,
+                new RefreshTokenStoreProperties(legacyReadEnabled, maxSessions),
+                new SimpleMeterRegistry());
+    }
+}
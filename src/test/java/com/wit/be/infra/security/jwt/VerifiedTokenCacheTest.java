@@ -0,0 +1,163 @@
+package com.wit.be.infra.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.infra.properties.JwtCacheProperties;
+import com.wit.be.infra.properties.JwtProperties;
+import com.wit.be.infra.redis.AccessTokenDenylist;
+import com.wit.be.infra.security.exception.JwtErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "access-token";
+
+    private JwtUtil jwtUtil;
+    private AccessTokenDenylist accessTokenDenylist;
+    private MeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = mock(JwtUtil.class);
+        accessTokenDenylist = mock(AccessTokenDenylist.class);
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache =
+                new VerifiedTokenCache(
+                        jwtUtil,
+                        accessTokenDenylist,
+                        new JwtCacheProperties(true, 1_000L),
+                        meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 서명 검증")
+    void authenticate_WhenCached_ShouldSkipVerification() {
+        // Given
+        Authentication authentication = new UsernamePasswordAuthenticationToken("1", "");
+        when(jwtUtil.verify(TOKEN))
+                .thenReturn(
+                        new VerifiedAccessToken(
+                                1L, authentication, System.currentTimeMillis() + 60_000L));
+
+        // When
+        Authentication first = verifiedTokenCache.authenticate(TOKEN);
+        Authentication second = verifiedTokenCache.authenticate(TOKEN);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(jwtUtil, times(1)).verify(TOKEN);
+        assertThat(
+                        meterRegistry
+                                .get("cache.gets")
+                                .tag("cache", "jwt.verified-tokens")
+                                .tag("result", "hit")
+                                .functionCounter()
+                                .count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 사용자의 캐시 항목 제거")
+    void evictByUserId_ShouldForceReverification() {
+        // Given
+        Authentication authentication = new UsernamePasswordAuthenticationToken("1", "");
+        when(jwtUtil.verify(TOKEN))
+                .thenReturn(
+                        new VerifiedAccessToken(
+                                1L, authentication, System.currentTimeMillis() + 60_000L));
+        verifiedTokenCache.authenticate(TOKEN);
+
+        // When
+        verifiedTokenCache.evictByUserId(1L);
+        verifiedTokenCache.authenticate(TOKEN);
+
+        // Then
+        verify(jwtUtil, times(2)).verify(TOKEN);
+    }
+
+    @Test
+    @DisplayName("이미 만료 시각이 지난 토큰은 캐시하지 않음")
+    void authenticate_WhenExpiresImmediately_ShouldNotServeFromCache() {
+        // Given
+        Authentication authentication = new UsernamePasswordAuthenticationToken("1", "");
+        when(jwtUtil.verify(TOKEN))
+                .thenReturn(
+                        new VerifiedAccessToken(
+                                1L, authentication, System.currentTimeMillis() - 1L));
+
+        // When
+        verifiedTokenCache.authenticate(TOKEN);
+        verifiedTokenCache.authenticate(TOKEN);
+
+        // Then
+        verify(jwtUtil, times(2)).verify(TOKEN);
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰은 캐시에 있어도 거부")
+    void authenticate_WhenRevoked_ShouldRejectEvenIfCached() {
+        // Given
+        Authentication authentication = new UsernamePasswordAuthenticationToken("1", "");
+        when(jwtUtil.verify(TOKEN))
+                .thenReturn(
+                        new VerifiedAccessToken(
+                                1L, authentication, System.currentTimeMillis() + 60_000L));
+        verifiedTokenCache.authenticate(TOKEN);
+
+        // When
+        when(accessTokenDenylist.isRevoked(any())).thenReturn(true);
+
+        // Then
+        assertThatThrownBy(() -> verifiedTokenCache.authenticate(TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(JwtErrorCode.REVOKED_TOKEN);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 Bearer 인증에 쓸 수 없고 캐시되지 않음")
+    void authenticate_WithRefreshToken_ShouldReject() {
+        // Given
+        JwtUtil realJwtUtil =
+                new JwtUtil(
+                        new JwtProperties(
+                                "test-secret-key-for-unit-testing-minimum-256-bits-required-here",
+                                "wit-test",
+                                3_600_000L,
+                                2_592_000_000L));
+        realJwtUtil.initSecretKey();
+        VerifiedTokenCache cache =
+                new VerifiedTokenCache(
+                        realJwtUtil,
+                        accessTokenDenylist,
+                        new JwtCacheProperties(true, 1_000L),
+                        meterRegistry);
+        String refreshToken =
+                realJwtUtil.generateRefreshToken(1L, List.of("ROLE_USER"), "session-1");
+        String accessToken = realJwtUtil.generateAccessToken(1L, List.of("ROLE_USER"), "session-1");
+
+        // When & Then
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> cache.authenticate(refreshToken))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(JwtErrorCode.INVALID_TOKEN);
+        }
+        assertThat(cache.authenticate(accessToken).getName()).isEqualTo("1");
+    }
+}
@@ -0,0 +1,30 @@
+package com.wit.be.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL 문 수를 스레드별로 셉니다.
+ *
+ * <p>테스트 설정의 {@code hibernate.session_factory.statement_inspector}로 등록됩니다. JDBC 배치는 문 하나로
+ * 준비되므로, 배치로 묶인 INSERT는 DB 왕복 횟수만큼 세어집니다.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    /** 현재 스레드의 카운트를 0으로 초기화합니다. */
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /** 마지막 초기화 이후 현재 스레드에서 준비된 SQL 문 수 */
+    public static int count() {
+        return COUNT.get()[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+}
@@ -0,0 +1,183 @@
+package com.wit.be.terms.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wit.be.terms.domain.ReconsentJob;
+import com.wit.be.terms.domain.ReconsentJobStatus;
+import com.wit.be.terms.domain.TermsType;
+import com.wit.be.terms.repository.ReconsentJobRepository;
+import com.wit.be.user.domain.SocialType;
+import com.wit.be.user.domain.User;
+import com.wit.be.user.domain.UserStatus;
+import com.wit.be.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** 청크 크기 1로 여러 청크에 걸친 키셋 진행과 체크포인트를 검증합니다. */
+@SpringBootTest(
+        properties = {
+            "terms.reconsent.chunk-size=1",
+            "terms.reconsent.pause-between-chunks=0ms"
+        })
+class ReconsentBackfillTest {
+
+    private static final long OLD_TERMS_ID = 900_001L;
+    private static final long NEW_TERMS_ID = 900_002L;
+    private static final long AGREED_MASK =
+            TermsType.TERMS_OF_SERVICE.bit() | TermsType.PRIVACY_POLICY.bit();
+
+    @Autowired private ReconsentBackfill reconsentBackfill;
+
+    @Autowired private ReconsentJobRepository reconsentJobRepository;
+
+    @Autowired private UserRepository userRepository;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 엔티티 이벤트(카탈로그 갱신)가 다른 테스트에 영향을 주지 않도록 약관은 JDBC로 생성
+        insertTerms(OLD_TERMS_ID, "v1.0", false);
+        insertTerms(NEW_TERMS_ID, "v2.0", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM terms_reconsent_jobs WHERE terms_id = ?", NEW_TERMS_ID);
+        jdbcTemplate.update("DELETE FROM user_terms_agreements WHERE term_id = ?", NEW_TERMS_ID);
+        userRepository.deleteAllById(userIds);
+        jdbcTemplate.update(
+                "DELETE FROM terms WHERE id IN (?, ?)", OLD_TERMS_ID, NEW_TERMS_ID);
+    }
+
+    @Test
+    @DisplayName("새 필수 약관 버전에 동의하지 않은 사용자만 재동의 대기로 전환")
+    void runPendingJobs_ShouldMoveOnlyUsersWithoutNewAgreement() {
+        // Given
+        Long stale1 = createUser("stale-1", AGREED_MASK);
+        Long stale2 = createUser("stale-2", AGREED_MASK);
+        Long reconsented = createUser("reconsented", AGREED_MASK);
+        Long privacyOnly = createUser("privacy-only", TermsType.PRIVACY_POLICY.bit());
+        jdbcTemplate.update(
+                "INSERT INTO user_terms_agreements (id, user_id, term_id, agreed, agreed_at) "
+                        + "VALUES (?, ?, ?, TRUE, CURRENT_TIMESTAMP)",
+                900_001L,
+                reconsented,
+                NEW_TERMS_ID);
+
+        // When
+        reconsentBackfill.runPendingJobs();
+
+        // Then
+        assertReconsentRequired(stale1);
+        assertReconsentRequired(stale2);
+        assertUnchanged(reconsented, AGREED_MASK);
+        assertUnchanged(privacyOnly, TermsType.PRIVACY_POLICY.bit());
+
+        ReconsentJob job = reconsentJobRepository.findByStatus(ReconsentJobStatus.COMPLETED)
+                .stream()
+                .filter(completed -> completed.getTermsId() == NEW_TERMS_ID)
+                .findFirst()
+                .orElseThrow();
+        assertThat(job.getProcessedUsers()).isEqualTo(2);
+        assertThat(job.getLastUserId()).isEqualTo(Math.max(stale1, stale2));
+    }
+
+    @Test
+    @DisplayName("완료된 약관 버전은 다시 백필하지 않음")
+    void runPendingJobs_WhenAlreadyCompleted_ShouldNotRunAgain() {
+        // Given
+        reconsentBackfill.runPendingJobs();
+        Long lateUser = createUser("late", AGREED_MASK);
+
+        // When
+        reconsentBackfill.runPendingJobs();
+
+        // Then
+        assertUnchanged(lateUser, AGREED_MASK);
+        assertThat(reconsentJobRepository.findByStatus(ReconsentJobStatus.RUNNING)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대상 조회 이후 새 버전에 동의한 사용자는 UPDATE에서 제외")
+    void clearAgreedTermsBit_WhenAgreedAfterSelect_ShouldSkipUser() {
+        // Given
+        Long stale = createUser("race-stale", AGREED_MASK);
+        Long agreedLater = createUser("race-agreed", AGREED_MASK);
+        List<Long> selected = List.of(stale, agreedLater);
+        jdbcTemplate.update(
+                "INSERT INTO user_terms_agreements (id, user_id, term_id, agreed, agreed_at) "
+                        + "VALUES (?, ?, ?, TRUE, CURRENT_TIMESTAMP)",
+                900_002L,
+                agreedLater,
+                NEW_TERMS_ID);
+
+        // When
+        Integer updated =
+                transactionTemplate.execute(
+                        status ->
+                                userRepository.clearAgreedTermsBitAndRequireReconsent(
+                                        selected,
+                                        TermsType.TERMS_OF_SERVICE.bit(),
+                                        NEW_TERMS_ID,
+                                        LocalDateTime.now()));
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertReconsentRequired(stale);
+        assertUnchanged(agreedLater, AGREED_MASK);
+    }
+
+    private void assertReconsentRequired(Long userId) {
+        User user = userRepository.findById(userId).orElseThrow();
+        assertThat(user.getStatus()).isEqualTo(UserStatus.PENDING_RECONSENT);
+        assertThat(user.getAgreedTermsMask()).isEqualTo(TermsType.PRIVACY_POLICY.bit());
+    }
+
+    private void assertUnchanged(Long userId, long mask) {
+        User user = userRepository.findById(userId).orElseThrow();
+        assertThat(user.getStatus()).isEqualTo(UserStatus.ACTIVE);
+        assertThat(user.getAgreedTermsMask()).isEqualTo(mask);
+    }
+
+    private Long createUser(String providerId, long agreedTermsMask) {
+        User user =
+                User.builder()
+                        .socialType(SocialType.KAKAO)
+                        .providerId("reconsent-" + providerId)
+                        .email("reconsent-" + providerId + "@test.com")
+                        .status(UserStatus.ACTIVE)
+                        .build();
+        user.updateAgreedTermsMask(agreedTermsMask);
+        Long userId = userRepository.save(user).getId();
+        userIds.add(userId);
+        return userId;
+    }
+
+    private void insertTerms(long id, String version, boolean active) {
+        jdbcTemplate.update(
+                "INSERT INTO terms (id, public_id, type, title, version, required, active, "
+                        + "created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, TRUE, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                id,
+                UUID.randomUUID(),
+                TermsType.TERMS_OF_SERVICE.name(),
+                "서비스 이용약관",
+                version,
+                active);
+    }
+}
@@ -0,0 +1,159 @@
+package com.wit.be.terms.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.wit.be.terms.domain.TermsType;
+import com.wit.be.terms.dto.request.TermsAgreementRequest;
+import com.wit.be.terms.dto.request.TermsAgreementRequest.TermsAgreement;
+import com.wit.be.terms.repository.TermsRepository;
+import com.wit.be.terms.repository.UserTermsAgreementRepository;
+import com.wit.be.user.application.UserQueryService;
+import com.wit.be.user.domain.SocialType;
+import com.wit.be.user.domain.User;
+import com.wit.be.user.domain.UserSnapshot;
+import com.wit.be.user.domain.UserSnapshot.PendingReconsent;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TermsAgreementMaskTest {
+
+    private static final String SERVICE = "service";
+    private static final String PRIVACY = "privacy";
+    private static final String MARKETING = "marketing";
+
+    @InjectMocks private TermsServiceImpl termsService;
+
+    @Mock private TermsRepository termsRepository;
+    @Mock private UserTermsAgreementRepository userTermsAgreementRepository;
+    @Mock private UserQueryService userQueryService;
+    @Mock private TermsCatalog termsCatalog;
+
+    private User user;
+    private TermsCatalogSnapshot catalog;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().socialType(SocialType.KAKAO).providerId("mask").build();
+        catalog =
+                new TermsCatalogSnapshot(
+                        List.of(),
+                        Map.of(
+                                SERVICE,
+                                new TermsCatalogSnapshot.Entry(
+                                        1L, true, TermsType.TERMS_OF_SERVICE),
+                                PRIVACY,
+                                new TermsCatalogSnapshot.Entry(2L, true, TermsType.PRIVACY_POLICY),
+                                MARKETING,
+                                new TermsCatalogSnapshot.Entry(3L, false, TermsType.MARKETING)),
+                        Set.of(1L, 2L),
+                        TermsType.TERMS_OF_SERVICE.bit() | TermsType.PRIVACY_POLICY.bit(),
+                        null,
+                        "\"catalog\"",
+                        null,
+                        "\"catalog-cbor\"",
+                        List.of());
+        when(userQueryService.findById(1L)).thenReturn(user);
+        when(termsCatalog.snapshot()).thenReturn(catalog);
+    }
+
+    @Test
+    @DisplayName("동의한 약관 유형의 비트만 설정되고 필수 비트마스크 비교를 통과")
+    void agreeToTerms_ShouldSetAgreedBits() {
+        // When
+        termsService.agreeToTerms(
+                1L,
+                new TermsAgreementRequest(
+                        List.of(
+                                new TermsAgreement(SERVICE, true),
+                                new TermsAgreement(PRIVACY, true),
+                                new TermsAgreement(MARKETING, false))));
+
+        // Then
+        assertThat(user.getAgreedTermsMask()).isEqualTo(catalog.requiredMask());
+        assertThat(
+                        UserSnapshot.from(user)
+                                .hasAgreedToAll(catalog.requiredMask(), List.of()))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("선택 약관 철회 시 해당 비트만 해제")
+    void agreeToTerms_WhenOptionalWithdrawn_ShouldClearOnlyItsBit() {
+        // Given
+        user.updateAgreedTermsMask(catalog.requiredMask() | TermsType.MARKETING.bit());
+
+        // When
+        termsService.agreeToTerms(
+                1L,
+                new TermsAgreementRequest(
+                        List.of(
+                                new TermsAgreement(SERVICE, true),
+                                new TermsAgreement(PRIVACY, true),
+                                new TermsAgreement(MARKETING, false))));
+
+        // Then
+        assertThat(user.getAgreedTermsMask() & TermsType.MARKETING.bit()).isZero();
+        assertThat(
+                        UserSnapshot.from(user)
+                                .hasAgreedToAll(catalog.requiredMask(), List.of()))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("필수 약관 비트가 하나라도 없으면 미동의")
+    void hasAgreedToAll_WhenRequiredBitMissing_ShouldReturnFalse() {
+        // Given
+        user.updateAgreedTermsMask(TermsType.TERMS_OF_SERVICE.bit());
+
+        // When & Then
+        assertThat(
+                        UserSnapshot.from(user)
+                                .hasAgreedToAll(catalog.requiredMask(), List.of()))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("재동의 백필이 아직 처리하지 않은 사용자는 백필 시작 이후에 동의해야 필수 약관 동의")
+    void hasAgreedToAll_WhileReconsentPending_ShouldRequireAgreementAfterStart() {
+        // Given
+        ReflectionTestUtils.setField(user, "id", 10L);
+        user.updateAgreedTermsMask(catalog.requiredMask());
+        UserSnapshot agreedBefore = UserSnapshot.from(user);
+        List<PendingReconsent> pending =
+                List.of(
+                        new PendingReconsent(
+                                TermsType.TERMS_OF_SERVICE.bit(),
+                                5L,
+                                agreedBefore.termsAgreedAt().plusSeconds(1)));
+        List<PendingReconsent> processed =
+                List.of(
+                        new PendingReconsent(
+                                TermsType.TERMS_OF_SERVICE.bit(),
+                                10L,
+                                agreedBefore.termsAgreedAt().plusSeconds(1)));
+        List<PendingReconsent> startedEarlier =
+                List.of(
+                        new PendingReconsent(
+                                TermsType.TERMS_OF_SERVICE.bit(), 5L, LocalDateTime.MIN));
+
+        // When & Then
+        assertThat(agreedBefore.hasAgreedToAll(catalog.requiredMask(), pending)).isFalse();
+        assertThat(agreedBefore.hasAgreedToAll(catalog.requiredMask(), processed)).isTrue();
+        assertThat(agreedBefore.hasAgreedToAll(catalog.requiredMask(), startedEarlier)).isTrue();
+    }
+}
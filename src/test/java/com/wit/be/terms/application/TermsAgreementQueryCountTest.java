@@ -0,0 +1,101 @@
+package com.wit.be.terms.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wit.be.support.QueryCounter;
+import com.wit.be.terms.domain.Terms;
+import com.wit.be.terms.domain.TermsType;
+import com.wit.be.terms.dto.request.TermsAgreementRequest;
+import com.wit.be.terms.repository.TermsRepository;
+import com.wit.be.terms.repository.UserTermsAgreementRepository;
+import com.wit.be.user.application.UserService;
+import com.wit.be.user.domain.SocialType;
+import com.wit.be.user.domain.User;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class TermsAgreementQueryCountTest {
+
+    private static final int OPTIONAL_TERMS = 40;
+
+    /** 사용자 조회 + 약관 조회 + 기존 동의 조회 + 시퀀스 최대 2회 + INSERT 배치 + 사용자 UPDATE */
+    private static final int MAX_STATEMENTS = 7;
+
+    @Autowired private TermsService termsService;
+
+    @Autowired private TermsRepository termsRepository;
+
+    @Autowired private UserTermsAgreementRepository userTermsAgreementRepository;
+
+    @Autowired private UserService userService;
+
+    @Autowired private EntityManager entityManager;
+
+    private final List<Terms> allTerms = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        userTermsAgreementRepository.deleteAll();
+        termsRepository.deleteAll();
+
+        allTerms.add(createTerms(TermsType.TERMS_OF_SERVICE, true));
+        allTerms.add(createTerms(TermsType.PRIVACY_POLICY, true));
+        for (int i = 0; i < OPTIONAL_TERMS; i++) {
+            allTerms.add(createTerms(TermsType.MARKETING, false));
+        }
+    }
+
+    @Test
+    @DisplayName("동의 항목 수와 관계없이 쿼리 수가 일정")
+    void agreeToTerms_ShouldRunConstantNumberOfStatements() {
+        // Given
+        User fewUser = userService.findOrCreateUser(SocialType.KAKAO, "few", "few@test.com");
+        User manyUser = userService.findOrCreateUser(SocialType.KAKAO, "many", "many@test.com");
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        int fewStatements = countStatements(fewUser.getId(), allTerms.subList(0, 2));
+        int manyStatements = countStatements(manyUser.getId(), allTerms);
+        int updateStatements = countStatements(manyUser.getId(), allTerms);
+
+        // Then
+        assertThat(fewStatements).isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(manyStatements).isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(updateStatements).isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(userTermsAgreementRepository.findAgreedByUserId(manyUser.getId()))
+                .hasSize(allTerms.size());
+    }
+
+    private int countStatements(Long userId, List<Terms> terms) {
+        List<TermsAgreementRequest.TermsAgreement> agreements = new ArrayList<>();
+        for (Terms term : terms) {
+            agreements.add(new TermsAgreementRequest.TermsAgreement(term.getPublicId(), true));
+        }
+
+        QueryCounter.reset();
+        termsService.agreeToTerms(userId, new TermsAgreementRequest(agreements));
+        entityManager.flush();
+        return QueryCounter.count();
+    }
+
+    private Terms createTerms(TermsType type, boolean required) {
+        return termsRepository.save(
+                Terms.builder()
+                        .type(type)
+                        .title(type.name())
+                        .version("v1.0")
+                        .required(required)
+                        .active(true)
+                        .build());
+    }
+}
@@ -0,0 +1,133 @@
+package com.wit.be.terms.application;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.wit.be.infra.properties.TermsCatalogProperties;
+import com.wit.be.terms.domain.Terms;
+import com.wit.be.terms.domain.TermsType;
+import com.wit.be.terms.repository.ReconsentJobRepository;
+import com.wit.be.terms.repository.TermsRepository;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+class TermsCatalogTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+
+    private TermsRepository termsRepository;
+    private TermsCatalog termsCatalog;
+
+    private final Terms serviceTerms = createTerms(1L, TermsType.TERMS_OF_SERVICE);
+
+    @BeforeEach
+    void setUp() {
+        termsRepository = mock(TermsRepository.class);
+        termsCatalog = createCatalog();
+    }
+
+    @Test
+    @DisplayName("약관이 바뀌지 않았으면 같은 스냅샷과 ETag 유지")
+    void refresh_WhenUnchanged_ShouldKeepSnapshot() {
+        // Given
+        when(termsRepository.findByActiveTrue()).thenReturn(List.of(serviceTerms));
+        TermsCatalogSnapshot first = termsCatalog.snapshot();
+
+        // When
+        TermsCatalogSnapshot second = termsCatalog.refresh();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.body().render(), UTF_8)).contains(serviceTerms.getPublicId());
+        assertThat(first.find(serviceTerms.getPublicId()).required()).isTrue();
+    }
+
+    @Test
+    @DisplayName("약관이 바뀌면 새 ETag로 교체")
+    void refresh_WhenChanged_ShouldReplaceEtag() {
+        // Given
+        when(termsRepository.findByActiveTrue()).thenReturn(List.of(serviceTerms));
+        String before = termsCatalog.snapshot().etag();
+
+        // When
+        when(termsRepository.findByActiveTrue())
+                .thenReturn(List.of(serviceTerms, createTerms(2L, TermsType.MARKETING)));
+        TermsCatalogSnapshot after = termsCatalog.refresh();
+
+        // Then
+        assertThat(after.etag()).isNotEqualTo(before).startsWith("\"").endsWith("\"");
+        assertThat(after.terms()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("ETag는 약관 내용만으로 만들어 다른 서버에서 만든 스냅샷과 같음")
+    void snapshot_WithSameTerms_ShouldHaveSameEtagOnEveryNode() throws InterruptedException {
+        // Given
+        when(termsRepository.findByActiveTrue()).thenReturn(List.of(serviceTerms));
+        TermsCatalogSnapshot first = termsCatalog.snapshot();
+        Thread.sleep(5);
+
+        // When
+        TermsCatalogSnapshot other = createCatalog().snapshot();
+
+        // Then
+        assertThat(other.etag()).isEqualTo(first.etag());
+        assertThat(other.cborEtag()).isEqualTo(first.cborEtag());
+    }
+
+    @Test
+    @DisplayName("CBOR 본문은 JSON 본문과 같은 내용으로 미리 직렬화하고 응답 시각은 응답할 때 채움")
+    void snapshot_ShouldPrerenderCborWithFreshTimestamp() throws InterruptedException {
+        // Given
+        when(termsRepository.findByActiveTrue()).thenReturn(List.of(serviceTerms));
+        TermsCatalogSnapshot snapshot = termsCatalog.snapshot();
+        String renderedAt =
+                jsonMapper.readTree(snapshot.body().render()).get("timestamp").asString();
+        Thread.sleep(5);
+
+        // When
+        ObjectNode json = (ObjectNode) jsonMapper.readTree(snapshot.body().render());
+        ObjectNode cbor = (ObjectNode) cborMapper.readTree(snapshot.cborBody().render());
+
+        // Then
+        assertThat(json.get("timestamp").asString()).isNotEqualTo(renderedAt);
+        json.remove("timestamp");
+        cbor.remove("timestamp");
+        assertThat(cbor).isEqualTo(json);
+        assertThat(snapshot.cborEtag()).isNotEqualTo(snapshot.etag());
+        assertThat(termsCatalog.refresh().cborBody()).isSameAs(snapshot.cborBody());
+    }
+
+    private TermsCatalog createCatalog() {
+        return new TermsCatalog(
+                termsRepository,
+                mock(ReconsentJobRepository.class),
+                jsonMapper,
+                cborMapper,
+                new TermsCatalogProperties(
+                        Duration.ofSeconds(30), Duration.ofMinutes(1), Duration.ofMinutes(5)));
+    }
+
+    private static Terms createTerms(Long id, TermsType type) {
+        Terms terms =
+                Terms.builder()
+                        .type(type)
+                        .title(type.name())
+                        .version("v1.0")
+                        .required(type != TermsType.MARKETING)
+                        .active(true)
+                        .build();
+        ReflectionTestUtils.setField(terms, "id", id);
+        return terms;
+    }
+}
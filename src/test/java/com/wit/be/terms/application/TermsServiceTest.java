@@ -4,13 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.wit.be.common.exception.BusinessException;
+import com.wit.be.terms.domain.ReconsentJob;
 import com.wit.be.terms.domain.Terms;
 import com.wit.be.terms.domain.TermsType;
 import com.wit.be.terms.dto.request.TermsAgreementRequest;
 import com.wit.be.terms.dto.response.TermsResponse;
 import com.wit.be.terms.exception.TermsErrorCode;
+import com.wit.be.terms.repository.ReconsentJobRepository;
 import com.wit.be.terms.repository.TermsRepository;
 import com.wit.be.terms.repository.UserTermsAgreementRepository;
+import com.wit.be.user.application.UserCache;
 import com.wit.be.user.application.UserService;
 import com.wit.be.user.domain.SocialType;
 import com.wit.be.user.domain.User;
@@ -20,6 +23,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
@@ -36,6 +40,12 @@ class TermsServiceTest {
 
     @Autowired private UserService userService;
 
+    @Autowired private TermsCatalog termsCatalog;
+
+    @Autowired private ReconsentJobRepository reconsentJobRepository;
+
+    @Autowired private UserCache userCache;
+
     private Terms serviceTerms;
     private Terms privacyTerms;
     private Terms marketingTerms;
@@ -80,6 +90,14 @@ class TermsServiceTest {
 
         // 테스트용 사용자 생성
         testUser = userService.findOrCreateUser(SocialType.KAKAO, "test123", "test@example.com");
+
+        // 커밋 전 데이터로 활성 약관 카탈로그 갱신 (롤백 후 복원)
+        termsCatalog.refresh();
+    }
+
+    @AfterTransaction
+    void restoreCatalog() {
+        termsCatalog.refresh();
     }
 
     @Test
@@ -172,4 +190,85 @@ class TermsServiceTest {
         // Then
         assertThat(termsQueryService.hasAgreedToAllRequiredTerms(testUser.getId())).isTrue();
     }
+
+    @Test
+    @DisplayName("소문자 공개 ID와 대소문자만 다른 중복 ID도 같은 약관으로 처리")
+    void agreeToTerms_WithLowercasePublicIds_ShouldMatchTerms() {
+        // Given
+        Terms retiredTerms =
+                termsRepository.save(
+                        Terms.builder()
+                                .type(TermsType.MARKETING)
+                                .title("이전 마케팅 정보 수신")
+                                .version("v0.9")
+                                .required(false)
+                                .active(false)
+                                .build());
+        TermsAgreementRequest request =
+                new TermsAgreementRequest(
+                        List.of(
+                                new TermsAgreementRequest.TermsAgreement(
+                                        serviceTerms.getPublicId().toLowerCase(), true),
+                                new TermsAgreementRequest.TermsAgreement(
+                                        serviceTerms.getPublicId(), true),
+                                new TermsAgreementRequest.TermsAgreement(
+                                        privacyTerms.getPublicId().toLowerCase(), true),
+                                new TermsAgreementRequest.TermsAgreement(
+                                        retiredTerms.getPublicId().toLowerCase(), true),
+                                new TermsAgreementRequest.TermsAgreement(
+                                        retiredTerms.getPublicId(), false)));
+
+        // When
+        termsService.agreeToTerms(testUser.getId(), request);
+
+        // Then
+        assertThat(termsQueryService.hasAgreedToAllRequiredTerms(testUser.getId())).isTrue();
+        assertThat(userTermsAgreementRepository.findAgreedByUserId(testUser.getId()))
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("새 필수 약관 버전의 재동의 백필 중에는 새 버전에 동의해야 필수 약관 동의로 판단")
+    void hasAgreedToAllRequiredTerms_WhileReconsentRunning_ShouldRequireNewVersion() {
+        // Given
+        termsService.agreeToTerms(
+                testUser.getId(),
+                new TermsAgreementRequest(
+                        List.of(
+                                new TermsAgreementRequest.TermsAgreement(
+                                        serviceTerms.getPublicId(), true),
+                                new TermsAgreementRequest.TermsAgreement(
+                                        privacyTerms.getPublicId(), true))));
+        serviceTerms.deactivate();
+        Terms newServiceTerms =
+                termsRepository.save(
+                        Terms.builder()
+                                .type(TermsType.TERMS_OF_SERVICE)
+                                .title("서비스 이용약관")
+                                .version("v2.0")
+                                .required(true)
+                                .active(true)
+                                .build());
+        termsRepository.flush();
+        reconsentJobRepository.save(ReconsentJob.start(newServiceTerms));
+        termsCatalog.refresh();
+
+        // When
+        boolean beforeReconsent = termsQueryService.hasAgreedToAllRequiredTerms(testUser.getId());
+        termsService.agreeToTerms(
+                testUser.getId(),
+                new TermsAgreementRequest(
+                        List.of(
+                                new TermsAgreementRequest.TermsAgreement(
+                                        newServiceTerms.getPublicId(), true),
+                                new TermsAgreementRequest.TermsAgreement(
+                                        privacyTerms.getPublicId(), true))));
+        // 테스트 트랜잭션은 커밋되지 않으므로 커밋 후 캐시 무효화를 직접 수행
+        userCache.invalidate(testUser.getId());
+        boolean afterReconsent = termsQueryService.hasAgreedToAllRequiredTerms(testUser.getId());
+
+        // Then
+        assertThat(beforeReconsent).isFalse();
+        assertThat(afterReconsent).isTrue();
+    }
 }
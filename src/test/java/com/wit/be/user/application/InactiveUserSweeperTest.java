@@ -0,0 +1,126 @@
+package com.wit.be.user.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wit.be.user.domain.SocialType;
+import com.wit.be.user.domain.User;
+import com.wit.be.user.domain.UserStatus;
+import com.wit.be.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** 청크 크기 1로 여러 청크에 걸친 키셋 진행을 검증합니다. */
+@SpringBootTest(
+        properties = {
+            "user.activity.sweep-chunk-size=1",
+            "user.activity.pause-between-chunks=0ms"
+        })
+class InactiveUserSweeperTest {
+
+    @Autowired private InactiveUserSweeper inactiveUserSweeper;
+
+    @Autowired private UserActivityTracker userActivityTracker;
+
+    @Autowired private UserRepository userRepository;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllById(userIds);
+    }
+
+    @Test
+    @DisplayName("장기 미접속 활성 사용자만 비활성화하고, 최근 접속이 반영된 사용자는 유지")
+    void sweep_ShouldDeactivateOnlyIdleActiveUsers() {
+        // Given
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(365);
+        Long idle = createUser("idle", UserStatus.ACTIVE, longAgo);
+        Long returning = createUser("returning", UserStatus.ACTIVE, longAgo);
+        Long onboarding = createUser("onboarding", UserStatus.PENDING_ONBOARDING, longAgo);
+
+        userActivityTracker.recordSeen(returning);
+        userActivityTracker.flush();
+
+        // When
+        long deactivated = inactiveUserSweeper.sweep();
+
+        // Then
+        assertThat(deactivated).isEqualTo(1);
+        assertThat(statusOf(idle)).isEqualTo(UserStatus.INACTIVE);
+        assertThat(statusOf(returning)).isEqualTo(UserStatus.ACTIVE);
+        assertThat(statusOf(onboarding)).isEqualTo(UserStatus.PENDING_ONBOARDING);
+        assertThat(userRepository.findById(returning).orElseThrow().getLastSeenAt())
+                .isAfter(longAgo);
+    }
+
+    @Test
+    @DisplayName("로그인 기록은 반영 시 로그인 시각과 접속 시각을 함께 갱신")
+    void flush_ShouldUpdateLoginAndSeenTimestamps() {
+        // Given
+        Long userId = createUser("login", UserStatus.ACTIVE, null);
+
+        // When
+        userActivityTracker.recordLogin(userId);
+        userActivityTracker.flush();
+
+        // Then
+        User user = userRepository.findById(userId).orElseThrow();
+        assertThat(user.getLastLoginAt()).isNotNull();
+        assertThat(user.getLastSeenAt()).isEqualTo(user.getLastLoginAt());
+    }
+
+    @Test
+    @DisplayName("신규 사용자는 첫 접속 반영 전에도 가입 시각이 접속 시각으로 기록됨")
+    void save_NewUser_ShouldDefaultLastSeenAt() {
+        // Given
+        User user =
+                userRepository.save(
+                        User.builder()
+                                .socialType(SocialType.KAKAO)
+                                .providerId("activity-new")
+                                .email("activity-new@test.com")
+                                .status(UserStatus.ACTIVE)
+                                .build());
+        userIds.add(user.getId());
+
+        // When
+        LocalDateTime lastSeenAt =
+                jdbcTemplate.queryForObject(
+                        "SELECT last_seen_at FROM users WHERE id = ?",
+                        LocalDateTime.class,
+                        user.getId());
+
+        // Then
+        assertThat(lastSeenAt).isNotNull();
+    }
+
+    private Long createUser(String providerId, UserStatus status, LocalDateTime lastSeenAt) {
+        Long userId =
+                userRepository
+                        .save(
+                                User.builder()
+                                        .socialType(SocialType.KAKAO)
+                                        .providerId("activity-" + providerId)
+                                        .email("activity-" + providerId + "@test.com")
+                                        .status(status)
+                                        .build())
+                        .getId();
+        userIds.add(userId);
+        jdbcTemplate.update("UPDATE users SET last_seen_at = ? WHERE id = ?", lastSeenAt, userId);
+        return userId;
+    }
+
+    private UserStatus statusOf(Long userId) {
+        return userRepository.findById(userId).orElseThrow().getStatus();
+    }
+}
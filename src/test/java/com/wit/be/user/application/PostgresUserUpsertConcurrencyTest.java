@@ -0,0 +1,55 @@
+package com.wit.be.user.application;
+
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+/** 실제 Postgres(Testcontainers)에서 단일 upsert 경로로 같은 스트레스 테스트를 실행합니다. Docker가 없으면 건너뜁니다. */
+@EnabledIf("isDockerAvailable")
+class PostgresUserUpsertConcurrencyTest extends UserUpsertConcurrencyTest {
+
+    private static final String DATABASE = "wit";
+    private static final String USERNAME = "wit";
+    private static final String PASSWORD = "wit123";
+
+    private static GenericContainer<?> postgres;
+
+    static boolean isDockerAvailable() {
+        return DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        if (postgres == null) {
+            postgres =
+                    new GenericContainer<>(DockerImageName.parse("postgres:16-alpine"))
+                            .withEnv("POSTGRES_DB", DATABASE)
+                            .withEnv("POSTGRES_USER", USERNAME)
+                            .withEnv("POSTGRES_PASSWORD", PASSWORD)
+                            .withExposedPorts(5432)
+                            .waitingFor(
+                                    Wait.forLogMessage(
+                                            ".*database system is ready to accept connections.*",
+                                            2));
+            postgres.start();
+        }
+
+        registry.add(
+                "spring.datasource.url",
+                () ->
+                        "jdbc:postgresql://%s:%d/%s"
+                                .formatted(
+                                        postgres.getHost(),
+                                        postgres.getMappedPort(5432),
+                                        DATABASE));
+        registry.add("spring.datasource.username", () -> USERNAME);
+        registry.add("spring.datasource.password", () -> PASSWORD);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+}
@@ -0,0 +1,146 @@
+package com.wit.be.user.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wit.be.common.exception.BusinessException;
+import com.wit.be.infra.properties.UserCacheProperties;
+import com.wit.be.user.domain.SocialType;
+import com.wit.be.user.domain.UserChangedEvent;
+import com.wit.be.user.domain.UserRole;
+import com.wit.be.user.domain.UserSnapshot;
+import com.wit.be.user.domain.UserStatus;
+import com.wit.be.user.exception.UserErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import tools.jackson.databind.json.JsonMapper;
+
+class UserCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    private UserCache userCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userCache =
+                new UserCache(
+                        new UserCacheProperties(
+                                true, 100L, Duration.ofMinutes(5), false, Duration.ofMinutes(30)),
+                        mock(RedisTemplate.class),
+                        mock(RedisMessageListenerContainer.class),
+                        JsonMapper.builder().build(),
+                        new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 사용자는 한 번만 DB에서 로드")
+    void get_WhenCached_ShouldSkipLoader() {
+        // When
+        UserSnapshot first = userCache.get(USER_ID, this::load);
+        UserSnapshot second = userCache.get(USER_ID, this::load);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("사용자 변경 이벤트를 받으면 다시 로드")
+    void onUserChanged_ShouldForceReload() {
+        // Given
+        userCache.get(USER_ID, this::load);
+
+        // When
+        userCache.onUserChanged(new UserChangedEvent(USER_ID));
+        userCache.get(USER_ID, this::load);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 캐시하지 않음")
+    void get_WhenUserNotFound_ShouldNotCache() {
+        // When & Then
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> userCache.get(USER_ID, this::notFound))
+                    .isInstanceOf(BusinessException.class);
+        }
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("DB에서 읽은 값은 읽기 전 버전과 비교해 Redis에 저장")
+    @SuppressWarnings("unchecked")
+    void get_WhenRedisMiss_ShouldWriteBackWithObservedVersion() {
+        // Given
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("user:v3:1", "user:v3:version:1")))
+                .thenReturn(Arrays.asList(null, "3"));
+        UserCache redisCache =
+                new UserCache(
+                        new UserCacheProperties(
+                                true, 100L, Duration.ofMinutes(5), true, Duration.ofMinutes(30)),
+                        redisTemplate,
+                        mock(RedisMessageListenerContainer.class),
+                        JsonMapper.builder().build(),
+                        new SimpleMeterRegistry());
+
+        // When
+        redisCache.get(USER_ID, this::load);
+
+        // Then
+        assertThat(loads).hasValue(1);
+        verify(redisTemplate)
+                .execute(
+                        any(RedisScript.class),
+                        eq(List.of("user:v3:1", "user:v3:version:1")),
+                        eq("3"),
+                        anyString(),
+                        eq("1800000"));
+    }
+
+    private UserSnapshot load(Long userId) {
+        loads.incrementAndGet();
+        return new UserSnapshot(
+                userId,
+                "01HZX3Q4W5E6R7T8Y9U0I1O2P3",
+                SocialType.KAKAO,
+                "test@kakao.com",
+                "테스터",
+                null,
+                null,
+                null,
+                UserStatus.ACTIVE,
+                UserRole.USER,
+                0L,
+                null);
+    }
+
+    private UserSnapshot notFound(Long userId) {
+        loads.incrementAndGet();
+        throw new BusinessException(UserErrorCode.USER_NOT_FOUND);
+    }
+}
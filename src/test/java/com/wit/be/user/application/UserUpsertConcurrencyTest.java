@@ -0,0 +1,83 @@
+package com.wit.be.user.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wit.be.user.domain.SocialType;
+import com.wit.be.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/** 같은 소셜 계정의 동시 최초 로그인 스트레스 테스트. 기본 테스트 DB(H2)에서는 조회 후 생성 + 재시도 경로를 검증합니다. */
+@SpringBootTest
+class UserUpsertConcurrencyTest {
+
+    private static final int CONCURRENT_LOGINS = 200;
+    private static final int DISTINCT_USERS = 4;
+    private static final String PROVIDER_ID_PREFIX = "burst-";
+
+    @Autowired private UserService userService;
+
+    @Autowired private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        for (int i = 0; i < DISTINCT_USERS; i++) {
+            userRepository
+                    .findBySocialTypeAndProviderId(SocialType.KAKAO, PROVIDER_ID_PREFIX + i)
+                    .ifPresent(userRepository::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("동시 최초 로그인이 몰려도 소셜 계정당 사용자는 하나만 생성")
+    void findOrCreateUser_Concurrently_ShouldCreateExactlyOneUserPerAccount() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_LOGINS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+            int account = i % DISTINCT_USERS;
+            results.add(
+                    executor.submit(
+                            () -> {
+                                start.await();
+                                return userService
+                                        .findOrCreateUser(
+                                                SocialType.KAKAO,
+                                                PROVIDER_ID_PREFIX + account,
+                                                PROVIDER_ID_PREFIX + account + "@kakao.com")
+                                        .getId();
+                            }));
+        }
+        start.countDown();
+
+        Set<Long> userIds = new HashSet<>();
+        for (Future<Long> result : results) {
+            userIds.add(result.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(userIds).hasSize(DISTINCT_USERS);
+        for (int i = 0; i < DISTINCT_USERS; i++) {
+            assertThat(
+                            userRepository.findBySocialTypeAndProviderId(
+                                    SocialType.KAKAO, PROVIDER_ID_PREFIX + i))
+                    .isPresent();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.wit.be.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wit.be.support.QueryCounter;
+import com.wit.be.user.domain.SocialType;
+import com.wit.be.user.domain.User;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class UserBatchInsertTest {
+
+    private static final int ROWS = 100;
+
+    @Autowired private UserRepository userRepository;
+
+    @Autowired private EntityManager entityManager;
+
+    @Test
+    @DisplayName("100건 저장 시 INSERT는 JDBC 배치로, ID는 시퀀스 구간 단위로 할당")
+    void saveAll_ShouldBatchInserts() {
+        // Given
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            users.add(
+                    User.builder()
+                            .socialType(SocialType.KAKAO)
+                            .providerId("batch-" + i)
+                            .email("batch-" + i + "@test.com")
+                            .build());
+        }
+        QueryCounter.reset();
+
+        // When
+        userRepository.saveAll(users);
+        entityManager.flush();
+
+        // Then
+        // 시퀀스 조회 최대 3회 (allocationSize 50) + INSERT 배치 2회 (batch_size 50)
+        assertThat(QueryCounter.count()).isLessThanOrEqualTo(5);
+        assertThat(users).allSatisfy(user -> assertThat(user.getId()).isNotNull());
+    }
+}